@@ -0,0 +1,372 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.dto.AnaliticoContagemDTO;
+import com.senai.skillmanager.dto.AnaliticoRollupDTO;
+import com.senai.skillmanager.dto.ContagemEstagiariosDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
+import com.senai.skillmanager.model.analitico.AnaliticoContagem;
+import com.senai.skillmanager.model.analitico.AnaliticoMarca;
+import com.senai.skillmanager.model.analitico.AnaliticoRollup;
+import com.senai.skillmanager.model.analitico.DimensaoAnalitica;
+import com.senai.skillmanager.model.avaliacao.Avaliacao;
+import com.senai.skillmanager.model.empresa.Empresa;
+import com.senai.skillmanager.model.empresa.Supervisor;
+import com.senai.skillmanager.model.estagiario.DadosAcademicos;
+import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.repository.AnaliticoContagemRepository;
+import com.senai.skillmanager.repository.AnaliticoMarcaRepository;
+import com.senai.skillmanager.repository.AnaliticoRollupRepository;
+import com.senai.skillmanager.repository.AvaliacaoRepository;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnaliticoServiceTest {
+
+    @InjectMocks
+    private AnaliticoService analiticoService;
+
+    @Mock
+    private AvaliacaoRepository avaliacaoRepository;
+
+    @Mock
+    private AnaliticoMarcaRepository analiticoMarcaRepository;
+
+    @Mock
+    private AnaliticoRollupRepository analiticoRollupRepository;
+
+    @Mock
+    private AnaliticoContagemRepository analiticoContagemRepository;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private Authentication authentication;
+
+    private static final Instant AGORA = Instant.parse("2026-10-01T12:00:00Z");
+
+    private AnaliticoMarca marca;
+    private Estagiario estagiarioEntidade;
+    private Supervisor supervisorEntidade;
+
+    @BeforeEach
+    void setUp() {
+        marca = new AnaliticoMarca();
+        marca.setNome("avaliacao");
+        marca.setUltimoId(10L);
+
+        Empresa empresa = new Empresa();
+        empresa.setId(1L);
+
+        Faculdade faculdade = new Faculdade();
+        faculdade.setId(2L);
+
+        DadosAcademicos dadosAcademicos = new DadosAcademicos();
+        dadosAcademicos.setCurso("Engenharia de Testes");
+        dadosAcademicos.setFaculdade(faculdade);
+
+        estagiarioEntidade = new Estagiario();
+        estagiarioEntidade.setId(1L);
+        estagiarioEntidade.setEmpresa(empresa);
+        estagiarioEntidade.setDadosAcademicos(dadosAcademicos);
+
+        supervisorEntidade = new Supervisor();
+        supervisorEntidade.setId(3L);
+        supervisorEntidade.setEmpresa(empresa);
+    }
+
+    @Test
+    void testAtualizarIncremental_ProcessaApenasNovasAvaliacoes() {
+        Avaliacao primeira = novaAvaliacao(11L, 4);
+        Avaliacao segunda = novaAvaliacao(12L, 2);
+
+        when(clock.instant()).thenReturn(AGORA);
+        when(analiticoMarcaRepository.findParaAtualizacaoByNome("avaliacao")).thenReturn(Optional.of(marca));
+        when(avaliacaoRepository.findProntasParaRollup(10L,
+                AGORA.minus(AnaliticoService.JANELA_SEGURANCA), PageRequest.of(0, AnaliticoService.TAMANHO_LOTE)))
+                .thenReturn(Arrays.asList(primeira, segunda));
+
+        analiticoService.atualizarIncremental();
+
+        ArgumentCaptor<List<AnaliticoRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(analiticoRollupRepository, times(1)).saveAll(captor.capture());
+        AnaliticoRollup rollupEmpresa = captor.getValue().stream()
+                .filter(rollup -> rollup.getDimensao() == DimensaoAnalitica.EMPRESA)
+                .findFirst()
+                .orElseThrow();
+        AnaliticoRollup rollupCurso = captor.getValue().stream()
+                .filter(rollup -> rollup.getDimensao() == DimensaoAnalitica.CURSO)
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(DimensaoAnalitica.values().length, captor.getValue().size());
+        assertEquals("2:Engenharia de Testes", rollupCurso.getChave());
+        assertEquals("1", rollupEmpresa.getChave());
+        assertEquals(YearMonth.from(primeira.getDataAvaliacao()), rollupEmpresa.getMes());
+        assertEquals(2L, rollupEmpresa.getQuantidadeAvaliacoes());
+        assertEquals(6L, rollupEmpresa.getSomaNotas());
+
+        assertEquals(12L, marca.getUltimoId());
+        verify(analiticoMarcaRepository, times(1)).save(marca);
+        verify(analiticoRollupRepository, times(DimensaoAnalitica.values().length))
+                .findByDimensaoAndChaveAndMes(any(DimensaoAnalitica.class), anyString(), any(YearMonth.class));
+    }
+
+    @Test
+    void testAtualizarIncremental_AvaliacoesLegadasSemCriadoEm_SaoProcessadas() {
+        Avaliacao legada = novaAvaliacao(11L, 3);
+        Avaliacao recente = novaAvaliacao(12L, 5);
+        recente.setCriadoEm(AGORA.minus(AnaliticoService.JANELA_SEGURANCA).minusSeconds(1));
+
+        when(clock.instant()).thenReturn(AGORA);
+        when(analiticoMarcaRepository.findParaAtualizacaoByNome("avaliacao")).thenReturn(Optional.of(marca));
+        when(avaliacaoRepository.findProntasParaRollup(10L,
+                AGORA.minus(AnaliticoService.JANELA_SEGURANCA), PageRequest.of(0, AnaliticoService.TAMANHO_LOTE)))
+                .thenReturn(Arrays.asList(legada, recente));
+
+        analiticoService.atualizarIncremental();
+
+        assertNull(legada.getCriadoEm());
+        ArgumentCaptor<List<AnaliticoRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(analiticoRollupRepository, times(1)).saveAll(captor.capture());
+        AnaliticoRollup rollupEmpresa = captor.getValue().stream()
+                .filter(rollup -> rollup.getDimensao() == DimensaoAnalitica.EMPRESA)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, rollupEmpresa.getQuantidadeAvaliacoes());
+        assertEquals(8L, rollupEmpresa.getSomaNotas());
+        assertEquals(12L, marca.getUltimoId());
+    }
+
+    @Test
+    void testAtualizarIncremental_LeMarcaComBloqueio() {
+        when(clock.instant()).thenReturn(AGORA);
+        when(analiticoMarcaRepository.findParaAtualizacaoByNome("avaliacao")).thenReturn(Optional.of(marca));
+        when(avaliacaoRepository.findProntasParaRollup(anyLong(), any(Instant.class), any(PageRequest.class)))
+                .thenReturn(Collections.emptyList());
+
+        analiticoService.atualizarIncremental();
+
+        verify(analiticoMarcaRepository, times(1)).findParaAtualizacaoByNome("avaliacao");
+        verify(analiticoMarcaRepository, never()).findById(anyString());
+        verify(analiticoMarcaRepository, never()).inserirSeAusente(anyString());
+    }
+
+    @Test
+    void testAtualizarIncremental_MarcaAusente_InsereERelendoComBloqueio() {
+        AnaliticoMarca nova = new AnaliticoMarca();
+        nova.setNome("avaliacao");
+        nova.setUltimoId(0L);
+
+        when(clock.instant()).thenReturn(AGORA);
+        when(analiticoMarcaRepository.findParaAtualizacaoByNome("avaliacao"))
+                .thenReturn(Optional.empty(), Optional.of(nova));
+        when(avaliacaoRepository.findProntasParaRollup(eq(0L), any(Instant.class), any(PageRequest.class)))
+                .thenReturn(Collections.emptyList());
+
+        analiticoService.atualizarIncremental();
+
+        InOrder ordem = inOrder(analiticoMarcaRepository);
+        ordem.verify(analiticoMarcaRepository).findParaAtualizacaoByNome("avaliacao");
+        ordem.verify(analiticoMarcaRepository).inserirSeAusente("avaliacao");
+        ordem.verify(analiticoMarcaRepository).findParaAtualizacaoByNome("avaliacao");
+        verify(analiticoMarcaRepository, never()).save(any(AnaliticoMarca.class));
+    }
+
+    @Test
+    void testAtualizarIncremental_SemNovidades_NaoEscreve() {
+        when(clock.instant()).thenReturn(AGORA);
+        when(analiticoMarcaRepository.findParaAtualizacaoByNome("avaliacao")).thenReturn(Optional.of(marca));
+        when(avaliacaoRepository.findProntasParaRollup(anyLong(), any(Instant.class), any(PageRequest.class)))
+                .thenReturn(Collections.emptyList());
+
+        analiticoService.atualizarIncremental();
+
+        assertEquals(10L, marca.getUltimoId());
+        verify(analiticoRollupRepository, never()).saveAll(anyList());
+        verify(analiticoMarcaRepository, never()).save(any(AnaliticoMarca.class));
+    }
+
+    @Test
+    void testConsultar_LeSomenteRollups() {
+        AnaliticoRollup rollup = new AnaliticoRollup();
+        rollup.setDimensao(DimensaoAnalitica.CURSO);
+        rollup.setChave("2:Engenharia de Testes");
+        rollup.setMes(YearMonth.of(2026, 9));
+        rollup.setQuantidadeAvaliacoes(4L);
+        rollup.setSomaNotas(18L);
+
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("FACULDADE", null, 2L));
+        when(analiticoRollupRepository.findByDimensaoAndChaveOrderByMesAsc(DimensaoAnalitica.CURSO, "2:Engenharia de Testes"))
+                .thenReturn(Collections.singletonList(rollup));
+
+        List<AnaliticoRollupDTO> resultado = analiticoService.consultar(DimensaoAnalitica.CURSO, "2:Engenharia de Testes", authentication);
+
+        assertEquals(1, resultado.size());
+        assertEquals(4L, resultado.get(0).getQuantidadeAvaliacoes());
+        assertEquals(4.5, resultado.get(0).getMediaNotas(), 0.0001);
+        verifyNoInteractions(avaliacaoRepository);
+    }
+
+    @Test
+    void testConsultar_Falha_CursoDeOutraFaculdade() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("FACULDADE", null, 2L));
+
+        assertThrows(SecurityException.class, () -> {
+            analiticoService.consultar(DimensaoAnalitica.CURSO, "5:Engenharia de Testes", authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(analiticoRollupRepository, never()).findByDimensaoAndChaveOrderByMesAsc(any(DimensaoAnalitica.class), anyString());
+    }
+
+    @Test
+    void testConsultar_Falha_SupervisorOutraEmpresa() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("SUPERVISOR", 1L, null));
+
+        assertThrows(SecurityException.class, () -> {
+            analiticoService.consultar(DimensaoAnalitica.EMPRESA, "7", authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(analiticoRollupRepository, never()).findByDimensaoAndChaveOrderByMesAsc(any(DimensaoAnalitica.class), anyString());
+    }
+
+    @Test
+    void testAtualizarContagensEstagiarios_GravaPorEmpresaECurso() {
+        AnaliticoContagem existente = new AnaliticoContagem();
+        existente.setDimensao(DimensaoAnalitica.EMPRESA);
+        existente.setChave("1");
+        existente.setQuantidadeEstagiarios(3L);
+
+        AnaliticoContagem removida = new AnaliticoContagem();
+        removida.setDimensao(DimensaoAnalitica.EMPRESA);
+        removida.setChave("9");
+        removida.setQuantidadeEstagiarios(2L);
+
+        when(clock.instant()).thenReturn(AGORA);
+        when(estagiarioRepository.contarPorEmpresa())
+                .thenReturn(Collections.singletonList(new ContagemEstagiariosDTO("1", 5L)));
+        when(estagiarioRepository.contarPorCurso())
+                .thenReturn(Collections.singletonList(new ContagemEstagiariosDTO("2:Engenharia de Testes", 4L)));
+        when(analiticoContagemRepository.findByDimensao(DimensaoAnalitica.EMPRESA))
+                .thenReturn(Arrays.asList(existente, removida));
+        when(analiticoContagemRepository.findByDimensao(DimensaoAnalitica.CURSO))
+                .thenReturn(Collections.emptyList());
+
+        analiticoService.atualizarContagensEstagiarios();
+
+        ArgumentCaptor<List<AnaliticoContagem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(analiticoContagemRepository, times(1)).saveAll(captor.capture());
+        AnaliticoContagem curso = captor.getValue().stream()
+                .filter(contagem -> contagem.getDimensao() == DimensaoAnalitica.CURSO)
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(5L, existente.getQuantidadeEstagiarios());
+        assertEquals(0L, removida.getQuantidadeEstagiarios());
+        assertEquals("2:Engenharia de Testes", curso.getChave());
+        assertEquals(4L, curso.getQuantidadeEstagiarios());
+        assertEquals(AGORA, curso.getAtualizadoEm());
+        assertEquals(3, captor.getValue().size());
+        verify(estagiarioRepository, never()).findAll();
+    }
+
+    @Test
+    void testContarEstagiarios_LeSomenteContagem() {
+        AnaliticoContagem contagem = new AnaliticoContagem();
+        contagem.setDimensao(DimensaoAnalitica.EMPRESA);
+        contagem.setChave("1");
+        contagem.setQuantidadeEstagiarios(5L);
+        contagem.setAtualizadoEm(AGORA);
+
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("SUPERVISOR", 1L, null));
+        when(analiticoContagemRepository.findByDimensaoAndChave(DimensaoAnalitica.EMPRESA, "1"))
+                .thenReturn(Optional.of(contagem));
+
+        AnaliticoContagemDTO resultado = analiticoService.contarEstagiarios(DimensaoAnalitica.EMPRESA, "1", authentication);
+
+        assertEquals(5L, resultado.getQuantidadeEstagiarios());
+        assertEquals(AGORA, resultado.getAtualizadoEm());
+        verifyNoInteractions(estagiarioRepository);
+    }
+
+    @Test
+    void testContarEstagiarios_SemContagem_RetornaZero() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("FACULDADE", null, 2L));
+        when(analiticoContagemRepository.findByDimensaoAndChave(DimensaoAnalitica.CURSO, "2:Engenharia de Testes"))
+                .thenReturn(Optional.empty());
+
+        AnaliticoContagemDTO resultado = analiticoService.contarEstagiarios(DimensaoAnalitica.CURSO, "2:Engenharia de Testes", authentication);
+
+        assertEquals(0L, resultado.getQuantidadeEstagiarios());
+    }
+
+    @Test
+    void testContarEstagiarios_Falha_CursoDeOutraFaculdade() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principal("FACULDADE", null, 2L));
+
+        assertThrows(SecurityException.class, () -> {
+            analiticoService.contarEstagiarios(DimensaoAnalitica.CURSO, "5:Engenharia de Testes", authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(analiticoContagemRepository, never()).findByDimensaoAndChave(any(DimensaoAnalitica.class), anyString());
+    }
+
+    private Avaliacao novaAvaliacao(Long id, Integer nota) {
+        Avaliacao avaliacao = new Avaliacao();
+        avaliacao.setId(id);
+        avaliacao.setNotaDesempenho(nota);
+        avaliacao.setDataAvaliacao(LocalDate.of(2026, 9, 15));
+        avaliacao.setEstagiario(estagiarioEntidade);
+        avaliacao.setSupervisor(supervisorEntidade);
+        return avaliacao;
+    }
+
+    private PrincipalResolvidoDTO principal(String papel, Long empresaId, Long faculdadeId) {
+        PrincipalResolvidoDTO principal = new PrincipalResolvidoDTO();
+        principal.setPapel(papel);
+        principal.setId(1L);
+        principal.setEmpresaId(empresaId);
+        principal.setFaculdadeId(faculdadeId);
+        return principal;
+    }
+}
\ No newline at end of file
@@ -2,9 +2,15 @@ package com.senai.skillmanager.service;
 
 import com.senai.skillmanager.dto.AvaliacaoDTO;
 import com.senai.skillmanager.dto.AvaliacaoResponseDTO;
+import com.senai.skillmanager.dto.PaginaAvaliacaoDTO;
+import com.senai.skillmanager.dto.ResumoLoteAvaliacaoDTO;
 import com.senai.skillmanager.model.avaliacao.Avaliacao;
+import com.senai.skillmanager.model.avaliacao.AvaliacaoAgregado;
+import com.senai.skillmanager.model.avaliacao.PontoTendencia;
 import com.senai.skillmanager.model.empresa.Supervisor;
 import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.outbox.TipoEvento;
+import com.senai.skillmanager.repository.AvaliacaoAgregadoRepository;
 import com.senai.skillmanager.repository.AvaliacaoRepository;
 import com.senai.skillmanager.repository.EstagiarioRepository;
 import com.senai.skillmanager.repository.SupervisorRepository;
@@ -12,16 +18,27 @@ import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +50,9 @@ public class AvaliacaoServiceTest {
     @Mock
     private AvaliacaoRepository avaliacaoRepository;
 
+    @Mock
+    private AvaliacaoAgregadoRepository avaliacaoAgregadoRepository;
+
     @Mock
     private SupervisorRepository supervisorRepository;
 
@@ -45,6 +65,12 @@ public class AvaliacaoServiceTest {
     @Mock
     private EstagiarioService estagiarioService;
 
+    @Mock
+    private VersaoRecursoService versaoRecursoService;
+
+    @Mock
+    private OutboxService outboxService;
+
     private AvaliacaoDTO avaliacaoDTO;
     private Supervisor supervisorEntidade;
     private Estagiario estagiarioEntidade;
@@ -65,9 +91,10 @@ public class AvaliacaoServiceTest {
         estagiarioEntidade.setId(1L);
 
         avaliacaoEntidade = new Avaliacao();
-        avaliacaoEntidade.setId(1L);
+        avaliacaoEntidade.setId(10L);
         avaliacaoEntidade.setTitulo("Avaliação Teste");
         avaliacaoEntidade.setDataAvaliacao(LocalDate.now());
+        avaliacaoEntidade.setNotaDesempenho(5);
         avaliacaoEntidade.setSupervisor(supervisorEntidade);
         avaliacaoEntidade.setEstagiario(estagiarioEntidade);
     }
@@ -77,6 +104,7 @@ public class AvaliacaoServiceTest {
         when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
         when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
         when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L)).thenReturn(Optional.of(agregadoVazio(estagiarioEntidade)));
         when(supervisorService.toResponseDTO(any(Supervisor.class))).thenReturn(null);
         when(estagiarioService.toResponseDTO(any(Estagiario.class))).thenReturn(null);
 
@@ -89,6 +117,8 @@ public class AvaliacaoServiceTest {
         verify(supervisorRepository, times(1)).findById(1L);
         verify(estagiarioRepository, times(1)).findById(1L);
         verify(avaliacaoRepository, times(1)).save(any(Avaliacao.class));
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(estagiarioEntidade);
+        verify(outboxService, times(1)).registrar(TipoEvento.AVALIACAO_CRIADA, 10L);
     }
 
     @Test
@@ -101,5 +131,366 @@ public class AvaliacaoServiceTest {
 
         verify(estagiarioRepository, never()).findById(anyLong());
         verify(avaliacaoRepository, never()).save(any(Avaliacao.class));
+        verify(avaliacaoAgregadoRepository, never()).semearAPartirDoHistorico(anyLong());
+        verify(avaliacaoAgregadoRepository, never()).save(any(AvaliacaoAgregado.class));
+        verify(versaoRecursoService, never()).registrarAlteracaoEstagiario(any(Estagiario.class));
+        verify(outboxService, never()).registrar(any(TipoEvento.class), any());
+    }
+
+    @Test
+    void testSalvar_CriaAgregadoNaPrimeiraAvaliacao() {
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L))
+                .thenReturn(Optional.empty(), Optional.of(agregadoVazio(estagiarioEntidade)));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        InOrder ordem = inOrder(avaliacaoAgregadoRepository, avaliacaoRepository);
+        ordem.verify(avaliacaoAgregadoRepository).semearAPartirDoHistorico(1L);
+        ordem.verify(avaliacaoRepository).save(any(Avaliacao.class));
+        verify(avaliacaoAgregadoRepository, times(2)).findParaAtualizacaoByEstagiarioId(1L);
+        ArgumentCaptor<AvaliacaoAgregado> captor = ArgumentCaptor.forClass(AvaliacaoAgregado.class);
+        verify(avaliacaoAgregadoRepository, times(1)).save(captor.capture());
+        AvaliacaoAgregado agregado = captor.getValue();
+        assertEquals(estagiarioEntidade, agregado.getEstagiario());
+        assertEquals(1L, agregado.getQuantidade());
+        assertEquals(5.0, agregado.getMedia(), 0.0001);
+        assertEquals(5, agregado.getNotaMinima());
+        assertEquals(5, agregado.getNotaMaxima());
+        assertEquals(avaliacaoEntidade.getDataAvaliacao(), agregado.getUltimaDataAvaliacao());
+        assertEquals(Collections.singletonList(5), agregado.getUltimasNotas());
+    }
+
+    @Test
+    void testSalvar_AtualizaAgregadoExistente() {
+        AvaliacaoAgregado existente = new AvaliacaoAgregado();
+        existente.setEstagiario(estagiarioEntidade);
+        existente.setQuantidade(2L);
+        existente.setMedia(4.0);
+        existente.setNotaMinima(3);
+        existente.setNotaMaxima(5);
+        existente.setUltimaDataAvaliacao(LocalDate.now().minusMonths(1));
+        existente.setTendencia(new ArrayList<>(Arrays.asList(
+                new PontoTendencia(LocalDate.now().minusMonths(2), 3),
+                new PontoTendencia(LocalDate.now().minusMonths(1), 5))));
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L)).thenReturn(Optional.of(existente));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        verify(avaliacaoAgregadoRepository, times(1)).save(existente);
+        verify(avaliacaoAgregadoRepository, never()).semearAPartirDoHistorico(anyLong());
+        verify(avaliacaoRepository, never()).findByEstagiarioId(anyLong());
+        assertEquals(3L, existente.getQuantidade());
+        assertEquals(13.0 / 3, existente.getMedia(), 0.0001);
+        assertEquals(3, existente.getNotaMinima());
+        assertEquals(5, existente.getNotaMaxima());
+        assertEquals(avaliacaoEntidade.getDataAvaliacao(), existente.getUltimaDataAvaliacao());
+        assertEquals(Arrays.asList(3, 5, 5), existente.getUltimasNotas());
+    }
+
+    @Test
+    void testSalvar_JanelaDeTendenciaLimitada() {
+        AvaliacaoAgregado existente = new AvaliacaoAgregado();
+        existente.setEstagiario(estagiarioEntidade);
+        existente.setQuantidade((long) AvaliacaoAgregado.JANELA_TENDENCIA);
+        existente.setMedia(1.0);
+        existente.setNotaMinima(1);
+        existente.setNotaMaxima(1);
+        existente.setTendencia(pontosAte(LocalDate.now().minusMonths(1), AvaliacaoAgregado.JANELA_TENDENCIA, 1));
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L)).thenReturn(Optional.of(existente));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        assertEquals(AvaliacaoAgregado.JANELA_TENDENCIA, existente.getUltimasNotas().size());
+        assertEquals(5, existente.getUltimasNotas().get(AvaliacaoAgregado.JANELA_TENDENCIA - 1));
+        assertEquals(1, existente.getNotaMinima());
+        assertEquals(5, existente.getNotaMaxima());
+    }
+
+    @Test
+    void testSalvar_AvaliacaoRetroativa_PreservaUltimaData() {
+        LocalDate maisRecente = LocalDate.now().plusDays(10);
+
+        AvaliacaoAgregado existente = agregadoVazio(estagiarioEntidade);
+        existente.setQuantidade(1L);
+        existente.setMedia(3.0);
+        existente.setNotaMinima(3);
+        existente.setNotaMaxima(3);
+        existente.setUltimaDataAvaliacao(maisRecente);
+        existente.getTendencia().add(new PontoTendencia(maisRecente, 3));
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L)).thenReturn(Optional.of(existente));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        assertEquals(2L, existente.getQuantidade());
+        assertEquals(maisRecente, existente.getUltimaDataAvaliacao());
+        assertEquals(Arrays.asList(5, 3), existente.getUltimasNotas());
+    }
+
+    @Test
+    void testSalvar_AvaliacaoRetroativaForaDaJanela_NaoEntraNaTendencia() {
+        AvaliacaoAgregado existente = agregadoVazio(estagiarioEntidade);
+        existente.setQuantidade((long) AvaliacaoAgregado.JANELA_TENDENCIA);
+        existente.setMedia(1.0);
+        existente.setNotaMinima(1);
+        existente.setNotaMaxima(1);
+        existente.setUltimaDataAvaliacao(LocalDate.now().plusMonths(AvaliacaoAgregado.JANELA_TENDENCIA));
+        existente.setTendencia(pontosAte(LocalDate.now().plusMonths(AvaliacaoAgregado.JANELA_TENDENCIA),
+                AvaliacaoAgregado.JANELA_TENDENCIA, 1));
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L)).thenReturn(Optional.of(existente));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        assertEquals(AvaliacaoAgregado.JANELA_TENDENCIA + 1L, existente.getQuantidade());
+        assertEquals(5, existente.getNotaMaxima());
+        assertEquals(Collections.nCopies(AvaliacaoAgregado.JANELA_TENDENCIA, 1), existente.getUltimasNotas());
+    }
+
+    @Test
+    void testSalvar_EstagiarioComHistorico_AgregadoSemeadoAntesDaNovaAvaliacao() {
+        AvaliacaoAgregado semente = agregadoVazio(estagiarioEntidade);
+        semente.setQuantidade(24L);
+        semente.setMedia(3.0);
+        semente.setNotaMinima(1);
+        semente.setNotaMaxima(5);
+        semente.setUltimaDataAvaliacao(LocalDate.now().minusMonths(1));
+        semente.setTendencia(pontosAte(LocalDate.now().minusMonths(1), AvaliacaoAgregado.JANELA_TENDENCIA, 3));
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+        when(avaliacaoRepository.save(any(Avaliacao.class))).thenReturn(avaliacaoEntidade);
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioId(1L))
+                .thenReturn(Optional.empty(), Optional.of(semente));
+
+        avaliacaoService.salvar(avaliacaoDTO);
+
+        InOrder ordem = inOrder(avaliacaoAgregadoRepository, avaliacaoRepository);
+        ordem.verify(avaliacaoAgregadoRepository).semearAPartirDoHistorico(1L);
+        ordem.verify(avaliacaoRepository).save(any(Avaliacao.class));
+        ordem.verify(avaliacaoAgregadoRepository).save(semente);
+        assertEquals(25L, semente.getQuantidade());
+        assertEquals((24 * 3.0 + 5) / 25, semente.getMedia(), 0.0001);
+        assertEquals(1, semente.getNotaMinima());
+        assertEquals(5, semente.getNotaMaxima());
+        assertEquals(avaliacaoEntidade.getDataAvaliacao(), semente.getUltimaDataAvaliacao());
+        assertEquals(AvaliacaoAgregado.JANELA_TENDENCIA, semente.getUltimasNotas().size());
+        assertEquals(5, semente.getUltimasNotas().get(AvaliacaoAgregado.JANELA_TENDENCIA - 1));
+    }
+
+    @Test
+    void testSalvarLote_Sucesso() {
+        Estagiario outroEstagiario = new Estagiario();
+        outroEstagiario.setId(2L);
+
+        AvaliacaoDTO outraAvaliacaoDTO = new AvaliacaoDTO();
+        outraAvaliacaoDTO.setTitulo("Avaliação Lote");
+        outraAvaliacaoDTO.setSupervisorId(1L);
+        outraAvaliacaoDTO.setEstagiarioId(2L);
+        outraAvaliacaoDTO.setNotaDesempenho(4);
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(estagiarioEntidade, outroEstagiario));
+        when(avaliacaoRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(avaliacaoAgregadoRepository.findParaAtualizacaoByEstagiarioIdIn(anyCollection())).thenReturn(
+                Collections.emptyList(),
+                Arrays.asList(agregadoVazio(estagiarioEntidade), agregadoVazio(outroEstagiario)));
+
+        ResumoLoteAvaliacaoDTO resultado = avaliacaoService.salvarLote(Arrays.asList(avaliacaoDTO, outraAvaliacaoDTO));
+
+        assertNotNull(resultado);
+        assertEquals(2, resultado.getQuantidadeSalva());
+        assertEquals(1L, resultado.getSupervisorId());
+
+        verify(supervisorRepository, times(1)).findById(1L);
+        verify(estagiarioRepository, times(1)).findAllById(anyIterable());
+        verify(estagiarioRepository, never()).findById(anyLong());
+        verify(avaliacaoRepository, times(1)).saveAll(anyList());
+        verify(avaliacaoRepository, never()).save(any(Avaliacao.class));
+        verify(avaliacaoAgregadoRepository, times(2)).findParaAtualizacaoByEstagiarioIdIn(anyCollection());
+        verify(avaliacaoAgregadoRepository, times(1)).semearAPartirDoHistoricoEmLote(anyCollection());
+        InOrder ordem = inOrder(avaliacaoAgregadoRepository, avaliacaoRepository);
+        ordem.verify(avaliacaoAgregadoRepository).semearAPartirDoHistoricoEmLote(anyCollection());
+        ordem.verify(avaliacaoRepository).saveAll(anyList());
+        verify(avaliacaoAgregadoRepository, never()).findParaAtualizacaoByEstagiarioId(anyLong());
+        verify(supervisorService, never()).toResponseDTO(any(Supervisor.class));
+        verify(estagiarioService, never()).toResponseDTO(any(Estagiario.class));
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(estagiarioEntidade);
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(outroEstagiario);
+        verify(outboxService, times(2)).registrar(eq(TipoEvento.AVALIACAO_CRIADA), any());
+    }
+
+    @Test
+    void testSalvarLote_Falha_EstagiarioNaoEncontrado() {
+        AvaliacaoDTO avaliacaoInexistente = new AvaliacaoDTO();
+        avaliacaoInexistente.setTitulo("Avaliação Lote");
+        avaliacaoInexistente.setSupervisorId(1L);
+        avaliacaoInexistente.setEstagiarioId(99L);
+        avaliacaoInexistente.setNotaDesempenho(3);
+
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
+        when(estagiarioRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(estagiarioEntidade));
+
+        assertThrows(EntityNotFoundException.class, () -> {
+            avaliacaoService.salvarLote(Arrays.asList(avaliacaoDTO, avaliacaoInexistente));
+        }, "Estagiário não encontrado com ID: 99");
+
+        verify(avaliacaoRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testSalvarLote_Falha_SupervisoresDiferentes() {
+        AvaliacaoDTO outroSupervisorDTO = new AvaliacaoDTO();
+        outroSupervisorDTO.setTitulo("Avaliação Lote");
+        outroSupervisorDTO.setSupervisorId(2L);
+        outroSupervisorDTO.setEstagiarioId(1L);
+        outroSupervisorDTO.setNotaDesempenho(3);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            avaliacaoService.salvarLote(Arrays.asList(avaliacaoDTO, outroSupervisorDTO));
+        }, "Todas as avaliações do lote devem pertencer ao mesmo supervisor.");
+
+        verify(supervisorRepository, never()).findById(anyLong());
+        verify(avaliacaoRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testListarPorEstagiario_PrimeiraPaginaTamanhoPadrao() {
+        when(avaliacaoRepository.findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.singletonList(avaliacaoEntidade));
+
+        PaginaAvaliacaoDTO resultado = avaliacaoService.listarPorEstagiario(1L, null, null, null);
+
+        assertEquals(1, resultado.getItens().size());
+        assertNull(resultado.getProximoCursorData());
+        assertNull(resultado.getProximoCursorId());
+        verify(avaliacaoRepository, times(1)).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(
+                eq(1L), eq(PageRequest.of(0, AvaliacaoService.TAMANHO_PAGINA_PADRAO + 1)));
+    }
+
+    @Test
+    void testListarPorEstagiario_PaginaComCursor() {
+        LocalDate cursorData = LocalDate.now().plusDays(1);
+
+        Avaliacao avaliacaoAnterior = new Avaliacao();
+        avaliacaoAnterior.setId(0L);
+        avaliacaoAnterior.setTitulo("Avaliação Anterior");
+        avaliacaoAnterior.setDataAvaliacao(LocalDate.now().minusMonths(1));
+        avaliacaoAnterior.setSupervisor(supervisorEntidade);
+        avaliacaoAnterior.setEstagiario(estagiarioEntidade);
+
+        when(avaliacaoRepository.findPaginaPorEstagiario(anyLong(), any(LocalDate.class), anyLong(), any(PageRequest.class)))
+                .thenReturn(Arrays.asList(avaliacaoEntidade, avaliacaoAnterior));
+
+        PaginaAvaliacaoDTO resultado = avaliacaoService.listarPorEstagiario(1L, cursorData, 5L, 1);
+
+        assertEquals(1, resultado.getItens().size());
+        assertEquals(avaliacaoEntidade.getDataAvaliacao(), resultado.getProximoCursorData());
+        assertEquals(10L, resultado.getProximoCursorId());
+        verify(avaliacaoRepository, times(1)).findPaginaPorEstagiario(eq(1L), eq(cursorData), eq(5L), eq(PageRequest.of(0, 2)));
+        verify(avaliacaoRepository, never()).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class));
+    }
+
+    @Test
+    void testListarPorEstagiario_TamanhoLimitadoAoMaximo() {
+        when(avaliacaoRepository.findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.emptyList());
+
+        avaliacaoService.listarPorEstagiario(1L, null, null, 10_000_000);
+
+        verify(avaliacaoRepository, times(1)).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(
+                eq(1L), eq(PageRequest.of(0, AvaliacaoService.TAMANHO_PAGINA_MAXIMO + 1)));
+    }
+
+    @Test
+    void testListarPorEstagiario_Falha_TamanhoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            avaliacaoService.listarPorEstagiario(1L, null, null, 0);
+        }, "O tamanho da página deve ser maior que zero.");
+
+        verify(avaliacaoRepository, never()).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class));
+    }
+
+    @Test
+    void testListarPorEstagiario_SemCursor_UsaPrimeiraPagina() {
+        when(avaliacaoRepository.findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.singletonList(avaliacaoEntidade));
+
+        PaginaAvaliacaoDTO resultado = avaliacaoService.listarPorEstagiario(1L);
+
+        assertEquals(1, resultado.getItens().size());
+        assertNull(resultado.getProximoCursorId());
+        verify(avaliacaoRepository, times(1)).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(
+                eq(1L), eq(PageRequest.of(0, AvaliacaoService.TAMANHO_PAGINA_PADRAO + 1)));
+        verify(avaliacaoRepository, never()).findByEstagiarioId(anyLong());
+    }
+
+    @Test
+    void testListarPorEstagiario_SemCursor_HistoricoMaior_InformaProximoCursor() {
+        List<Avaliacao> historico = new ArrayList<>();
+        for (long id = AvaliacaoService.TAMANHO_PAGINA_PADRAO + 1; id > 0; id--) {
+            Avaliacao avaliacao = new Avaliacao();
+            avaliacao.setId(id);
+            avaliacao.setTitulo("Avaliação " + id);
+            avaliacao.setDataAvaliacao(LocalDate.now().minusDays(AvaliacaoService.TAMANHO_PAGINA_PADRAO + 1 - id));
+            avaliacao.setSupervisor(supervisorEntidade);
+            avaliacao.setEstagiario(estagiarioEntidade);
+            historico.add(avaliacao);
+        }
+        when(avaliacaoRepository.findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class)))
+                .thenReturn(historico);
+
+        PaginaAvaliacaoDTO resultado = avaliacaoService.listarPorEstagiario(1L);
+
+        Avaliacao ultimaDaPagina = historico.get(AvaliacaoService.TAMANHO_PAGINA_PADRAO - 1);
+        assertEquals(AvaliacaoService.TAMANHO_PAGINA_PADRAO, resultado.getItens().size());
+        assertEquals(ultimaDaPagina.getId(), resultado.getProximoCursorId());
+        assertEquals(ultimaDaPagina.getDataAvaliacao(), resultado.getProximoCursorData());
+    }
+
+    @Test
+    void testListarUltimas() {
+        when(avaliacaoRepository.findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.singletonList(avaliacaoEntidade));
+
+        List<AvaliacaoResponseDTO> resultado = avaliacaoService.listarUltimas(1L, 3);
+
+        assertEquals(1, resultado.size());
+        verify(avaliacaoRepository, times(1)).findByEstagiarioIdOrderByDataAvaliacaoDescIdDesc(eq(1L), eq(PageRequest.of(0, 3)));
+        verify(avaliacaoRepository, never()).findByEstagiarioId(anyLong());
+    }
+
+    private AvaliacaoAgregado agregadoVazio(Estagiario estagiario) {
+        AvaliacaoAgregado agregado = new AvaliacaoAgregado();
+        agregado.setEstagiario(estagiario);
+        agregado.setQuantidade(0L);
+        agregado.setMedia(0.0);
+        agregado.setTendencia(new ArrayList<>());
+        return agregado;
+    }
+
+    private List<PontoTendencia> pontosAte(LocalDate ultimaData, int quantidade, int nota) {
+        List<PontoTendencia> pontos = new ArrayList<>();
+        for (int i = quantidade - 1; i >= 0; i--) {
+            pontos.add(new PontoTendencia(ultimaData.minusMonths(i), nota));
+        }
+        return pontos;
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.dto.ResultadoBuscaDTO;
+import com.senai.skillmanager.model.empresa.Empresa;
+import com.senai.skillmanager.model.estagiario.DadosAcademicos;
+import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.repository.EmpresaRepository;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import com.senai.skillmanager.repository.FaculdadeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BuscaServiceTest {
+
+    @InjectMocks
+    private BuscaService buscaService;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private EmpresaRepository empresaRepository;
+
+    @Mock
+    private FaculdadeRepository faculdadeRepository;
+
+    private Faculdade faculdadeEntidade;
+    private Empresa empresaEntidade;
+    private Estagiario estagiarioEntidade;
+
+    @BeforeEach
+    void setUp() {
+        faculdadeEntidade = new Faculdade();
+        faculdadeEntidade.setId(1L);
+        faculdadeEntidade.setNome("Faculdade São João");
+
+        empresaEntidade = new Empresa();
+        empresaEntidade.setId(1L);
+        empresaEntidade.setNome("Padaria Pão Quente");
+        empresaEntidade.setRazaoSocial("Pão Quente Alimentos LTDA");
+
+        DadosAcademicos dadosAcademicos = new DadosAcademicos();
+        dadosAcademicos.setCurso("Ciência da Computação");
+        dadosAcademicos.setRa("RA2026001");
+        dadosAcademicos.setFaculdade(faculdadeEntidade);
+
+        estagiarioEntidade = new Estagiario();
+        estagiarioEntidade.setId(1L);
+        estagiarioEntidade.setNome("José Antônio");
+        estagiarioEntidade.setEmail("jose.antonio@teste.com");
+        estagiarioEntidade.setEmpresa(empresaEntidade);
+        estagiarioEntidade.setDadosAcademicos(dadosAcademicos);
+    }
+
+    @Test
+    void testBuscarEstagiarios_PrefixoSemAcento() {
+        buscaService.indexarEstagiario(estagiarioEntidade);
+
+        List<ResultadoBuscaDTO> porNome = buscaService.buscarEstagiarios("jose ANT", 1L);
+        List<ResultadoBuscaDTO> porCurso = buscaService.buscarEstagiarios("ciencia comp", 1L);
+        List<ResultadoBuscaDTO> porRa = buscaService.buscarEstagiarios("ra2026", 1L);
+
+        assertEquals(1, porNome.size());
+        assertEquals(1L, porNome.get(0).getId());
+        assertEquals("José Antônio", porNome.get(0).getTitulo());
+        assertEquals(1, porCurso.size());
+        assertEquals(1, porRa.size());
+        verifyNoInteractions(estagiarioRepository);
+    }
+
+    @Test
+    void testBuscarEstagiarios_RestritoAFaculdade() {
+        buscaService.indexarEstagiario(estagiarioEntidade);
+
+        assertTrue(buscaService.buscarEstagiarios("jose", 2L).isEmpty());
+    }
+
+    @Test
+    void testIndexarEstagiario_ReindexacaoSubstituiTermos() {
+        buscaService.indexarEstagiario(estagiarioEntidade);
+        estagiarioEntidade.setNome("Maria Clara");
+        buscaService.indexarEstagiario(estagiarioEntidade);
+
+        assertTrue(buscaService.buscarEstagiarios("jose", 1L).isEmpty());
+        assertEquals(1, buscaService.buscarEstagiarios("mari", 1L).size());
+    }
+
+    @Test
+    void testRemoverEstagiario_RetiraTermos() {
+        buscaService.indexarEstagiario(estagiarioEntidade);
+
+        buscaService.removerEstagiario(1L);
+
+        assertTrue(buscaService.buscarEstagiarios("jose", 1L).isEmpty());
+        assertTrue(buscaService.buscarEstagiarios("ciencia", 1L).isEmpty());
+    }
+
+    @Test
+    void testIndexarEstagiario_AplicaSomenteAposCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buscaService.indexarEstagiario(estagiarioEntidade);
+
+            assertTrue(buscaService.buscarEstagiarios("jose", 1L).isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertEquals(1, buscaService.buscarEstagiarios("jose", 1L).size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testIndexarEmpresa_RollbackNaoIndexa() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buscaService.indexarEmpresa(empresaEntidade);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertTrue(buscaService.buscarEmpresas("pao").isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testBuscarEmpresasEFaculdades() {
+        buscaService.indexarEmpresa(empresaEntidade);
+        buscaService.indexarFaculdade(faculdadeEntidade);
+
+        assertEquals(1, buscaService.buscarEmpresas("pao").size());
+        assertEquals(1, buscaService.buscarEmpresas("alim").size());
+        assertEquals(1, buscaService.buscarFaculdades("sao jo").size());
+        assertTrue(buscaService.buscarFaculdades("pao").isEmpty());
+    }
+
+    @Test
+    void testReconstruir_CarregaTodosOsDocumentos() {
+        when(estagiarioRepository.findAll()).thenReturn(Collections.singletonList(estagiarioEntidade));
+        when(empresaRepository.findAll()).thenReturn(Collections.singletonList(empresaEntidade));
+        when(faculdadeRepository.findAll()).thenReturn(Collections.singletonList(faculdadeEntidade));
+
+        buscaService.reconstruir();
+
+        assertEquals(1, buscaService.buscarEstagiarios("antonio", 1L).size());
+        assertEquals(1, buscaService.buscarEmpresas("padaria").size());
+        assertEquals(1, buscaService.buscarFaculdades("faculdade").size());
+    }
+}
\ No newline at end of file
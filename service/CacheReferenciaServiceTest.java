@@ -0,0 +1,151 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.empresa.Empresa;
+import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.repository.EmpresaRepository;
+import com.senai.skillmanager.repository.FaculdadeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheReferenciaServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private EmpresaRepository empresaRepository;
+
+    @Mock
+    private FaculdadeRepository faculdadeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheReferenciaService cacheReferenciaService;
+    private Empresa empresaEntidade;
+    private Faculdade faculdadeEntidade;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheReferenciaService = new CacheReferenciaService(empresaRepository, faculdadeRepository, 2, TTL,
+                Clock.fixed(Instant.parse("2026-10-01T12:00:00Z"), ZoneOffset.UTC), meterRegistry);
+
+        empresaEntidade = new Empresa();
+        empresaEntidade.setId(1L);
+        empresaEntidade.setCnpj("11111111000111");
+        empresaEntidade.setCodigoEmpresa("A1B-C2D");
+
+        faculdadeEntidade = new Faculdade();
+        faculdadeEntidade.setId(2L);
+        faculdadeEntidade.setCnpj("22222222000122");
+    }
+
+    @Test
+    void testEmpresaPorCodigo_UsaCacheERegistraMetricas() {
+        when(empresaRepository.findByCodigoEmpresa("A1B-C2D")).thenReturn(Optional.of(empresaEntidade));
+
+        assertEquals(Optional.of(empresaEntidade), cacheReferenciaService.empresaPorCodigo("A1B-C2D"));
+        assertEquals(Optional.of(empresaEntidade), cacheReferenciaService.empresaPorCodigo("A1B-C2D"));
+
+        verify(empresaRepository, times(1)).findByCodigoEmpresa("A1B-C2D");
+        assertEquals(1, meterRegistry.get("cache.referencia").tag("resultado", "acerto").counter().count(), 0.0001);
+        assertEquals(1, meterRegistry.get("cache.referencia").tag("resultado", "falha").counter().count(), 0.0001);
+    }
+
+    @Test
+    void testEmpresa_CarregadaPorUmaChaveAtendeAsDemais() {
+        when(empresaRepository.findByCodigoEmpresa("A1B-C2D")).thenReturn(Optional.of(empresaEntidade));
+
+        cacheReferenciaService.empresaPorCodigo("A1B-C2D");
+
+        assertEquals(Optional.of(empresaEntidade), cacheReferenciaService.empresaPorCnpj("11111111000111"));
+        assertEquals(Optional.of(empresaEntidade), cacheReferenciaService.empresaPorId(1L));
+        verify(empresaRepository, never()).findByCnpj(anyString());
+        verify(empresaRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testEmpresaPorCnpj_AusenteNaoFicaEmCache() {
+        when(empresaRepository.findByCnpj("11111111000111")).thenReturn(Optional.empty(), Optional.of(empresaEntidade));
+
+        assertTrue(cacheReferenciaService.empresaPorCnpj("11111111000111").isEmpty());
+        assertEquals(Optional.of(empresaEntidade), cacheReferenciaService.empresaPorCnpj("11111111000111"));
+
+        verify(empresaRepository, times(2)).findByCnpj("11111111000111");
+    }
+
+    @Test
+    void testInvalidarEmpresa_RemoveTodasAsChaves() {
+        when(empresaRepository.findByCodigoEmpresa("A1B-C2D")).thenReturn(Optional.of(empresaEntidade));
+        when(empresaRepository.findByCnpj("11111111000111")).thenReturn(Optional.of(empresaEntidade));
+
+        cacheReferenciaService.empresaPorCodigo("A1B-C2D");
+        cacheReferenciaService.invalidarEmpresa(empresaEntidade);
+        cacheReferenciaService.empresaPorCodigo("A1B-C2D");
+        cacheReferenciaService.invalidarEmpresa(empresaEntidade);
+        cacheReferenciaService.empresaPorCnpj("11111111000111");
+
+        verify(empresaRepository, times(2)).findByCodigoEmpresa("A1B-C2D");
+        verify(empresaRepository, times(1)).findByCnpj("11111111000111");
+    }
+
+    @Test
+    void testFaculdadePorCnpj_DescartaMenosRecente() {
+        Faculdade segunda = new Faculdade();
+        segunda.setId(3L);
+        segunda.setCnpj("33333333000133");
+
+        Faculdade terceira = new Faculdade();
+        terceira.setId(4L);
+        terceira.setCnpj("44444444000144");
+
+        when(faculdadeRepository.findByCnpj("22222222000122")).thenReturn(Optional.of(faculdadeEntidade));
+        when(faculdadeRepository.findByCnpj("33333333000133")).thenReturn(Optional.of(segunda));
+        when(faculdadeRepository.findByCnpj("44444444000144")).thenReturn(Optional.of(terceira));
+
+        cacheReferenciaService.faculdadePorCnpj("22222222000122");
+        cacheReferenciaService.faculdadePorCnpj("33333333000133");
+        cacheReferenciaService.faculdadePorCnpj("22222222000122");
+        cacheReferenciaService.faculdadePorCnpj("44444444000144");
+        cacheReferenciaService.faculdadePorCnpj("22222222000122");
+        cacheReferenciaService.faculdadePorCnpj("33333333000133");
+
+        verify(faculdadeRepository, times(1)).findByCnpj("22222222000122");
+        verify(faculdadeRepository, times(2)).findByCnpj("33333333000133");
+        verify(faculdadeRepository, times(1)).findByCnpj("44444444000144");
+    }
+
+    @Test
+    void testFaculdadePorId_ExpiraAposTtl() {
+        AtomicLong agora = new AtomicLong(0L);
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> agora.get());
+        CacheReferenciaService comRelogio = new CacheReferenciaService(empresaRepository, faculdadeRepository, 2, TTL,
+                clock, meterRegistry);
+        when(faculdadeRepository.findById(2L)).thenReturn(Optional.of(faculdadeEntidade));
+
+        comRelogio.faculdadePorId(2L);
+        agora.set(TTL.toMillis() - 1);
+        comRelogio.faculdadePorId(2L);
+        verify(faculdadeRepository, times(1)).findById(2L);
+
+        agora.set(TTL.toMillis() + 1);
+        comRelogio.faculdadePorId(2L);
+        verify(faculdadeRepository, times(2)).findById(2L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.Cep;
+import com.senai.skillmanager.repository.CepRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CepServiceTest {
+
+    @Mock
+    private CepRepository cepRepository;
+
+    private CepService cepService;
+
+    @BeforeEach
+    void setUp() {
+        cepService = new CepService(cepRepository, 2);
+    }
+
+    @Test
+    void testBuscar_UsaCache() {
+        Cep cep = new Cep();
+        cep.setCep("12345678");
+        cep.setLogradouro("Avenida Central");
+
+        when(cepRepository.findById("12345678")).thenReturn(Optional.of(cep));
+
+        assertEquals(Optional.of(cep), cepService.buscar("12345-678"));
+        assertEquals(Optional.of(cep), cepService.buscar("12345678"));
+
+        verify(cepRepository, times(1)).findById("12345678");
+    }
+
+    @Test
+    void testBuscar_DescartaMenosRecente() {
+        when(cepRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        cepService.buscar("11111111");
+        cepService.buscar("22222222");
+        cepService.buscar("11111111");
+        cepService.buscar("33333333");
+        cepService.buscar("11111111");
+        cepService.buscar("22222222");
+
+        verify(cepRepository, times(1)).findById("11111111");
+        verify(cepRepository, times(2)).findById("22222222");
+        verify(cepRepository, times(1)).findById("33333333");
+    }
+
+    @Test
+    void testBuscar_CepInvalido() {
+        assertEquals(Optional.empty(), cepService.buscar("123"));
+
+        verifyNoInteractions(cepRepository);
+    }
+}
\ No newline at end of file
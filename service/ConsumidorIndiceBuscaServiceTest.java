@@ -0,0 +1,103 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.outbox.EventoOutbox;
+import com.senai.skillmanager.model.outbox.TipoEvento;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConsumidorIndiceBuscaServiceTest {
+
+    @InjectMocks
+    private ConsumidorIndiceBuscaService consumidorIndiceBuscaService;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private BuscaService buscaService;
+
+    private Estagiario estagiarioEntidade;
+    private EventoOutbox estagiarioCadastrado;
+
+    @BeforeEach
+    void setUp() {
+        estagiarioEntidade = new Estagiario();
+        estagiarioEntidade.setId(5L);
+        estagiarioEntidade.setNome("José Antônio");
+
+        estagiarioCadastrado = new EventoOutbox();
+        estagiarioCadastrado.setId(1L);
+        estagiarioCadastrado.setTipo(TipoEvento.ESTAGIARIO_CADASTRADO);
+        estagiarioCadastrado.setAgregadoId(5L);
+        estagiarioCadastrado.setCriadoEm(LocalDateTime.now());
+        estagiarioCadastrado.setTentativas(0);
+    }
+
+    @Test
+    void testConsumir_EstagiarioCadastrado_Indexa() {
+        when(estagiarioRepository.findComGrafoById(5L)).thenReturn(Optional.of(estagiarioEntidade));
+
+        consumidorIndiceBuscaService.consumir(estagiarioCadastrado);
+
+        verify(buscaService, times(1)).indexarEstagiario(estagiarioEntidade);
+        verify(buscaService, never()).removerEstagiario(anyLong());
+    }
+
+    @Test
+    void testConsumir_Reentrega_ReindexaSemDuplicar() {
+        when(estagiarioRepository.findComGrafoById(5L)).thenReturn(Optional.of(estagiarioEntidade));
+
+        consumidorIndiceBuscaService.consumir(estagiarioCadastrado);
+        consumidorIndiceBuscaService.consumir(estagiarioCadastrado);
+
+        verify(buscaService, times(2)).indexarEstagiario(estagiarioEntidade);
+    }
+
+    @Test
+    void testConsumir_EstagiarioRemovido_RetiraDoIndice() {
+        when(estagiarioRepository.findComGrafoById(5L)).thenReturn(Optional.empty());
+
+        consumidorIndiceBuscaService.consumir(estagiarioCadastrado);
+
+        verify(buscaService, times(1)).removerEstagiario(5L);
+        verify(buscaService, never()).indexarEstagiario(any(Estagiario.class));
+    }
+
+    @Test
+    void testConsumir_OutroTipo_Ignora() {
+        EventoOutbox avaliacaoCriada = new EventoOutbox();
+        avaliacaoCriada.setId(2L);
+        avaliacaoCriada.setTipo(TipoEvento.AVALIACAO_CRIADA);
+        avaliacaoCriada.setAgregadoId(10L);
+
+        consumidorIndiceBuscaService.consumir(avaliacaoCriada);
+
+        verifyNoInteractions(estagiarioRepository, buscaService);
+    }
+
+    @Test
+    void testConsumir_FalhaNoRepositorio_PropagaParaNovaTentativa() {
+        when(estagiarioRepository.findComGrafoById(5L)).thenThrow(new RuntimeException("Banco indisponível."));
+
+        assertThrows(RuntimeException.class, () -> {
+            consumidorIndiceBuscaService.consumir(estagiarioCadastrado);
+        }, "Banco indisponível.");
+
+        verify(buscaService, never()).indexarEstagiario(any(Estagiario.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.senai.skillmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ContadorConsultasServiceTest {
+
+    private static final int LIMITE = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContadorConsultasService contadorConsultasService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        contadorConsultasService = new ContadorConsultasService(LIMITE, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contadorConsultasService.finalizar("limpeza");
+    }
+
+    @Test
+    void testFinalizar_RegistraQuantidadePorRequisicao() {
+        contadorConsultasService.iniciar();
+        contadorConsultasService.registrarConsulta();
+        contadorConsultasService.registrarConsulta();
+
+        int quantidade = contadorConsultasService.finalizar("GET /dashboard/faculdade");
+
+        DistributionSummary resumo = meterRegistry.get("http.requisicao.sql")
+                .tag("rota", "GET /dashboard/faculdade")
+                .summary();
+        assertEquals(2, quantidade);
+        assertEquals(1L, resumo.count());
+        assertEquals(2.0, resumo.totalAmount(), 0.0001);
+        assertNull(meterRegistry.find("http.requisicao.n_mais_um").counter());
+    }
+
+    @Test
+    void testFinalizar_NoLimite_NaoAlerta() {
+        contadorConsultasService.iniciar();
+        for (int i = 0; i < LIMITE; i++) {
+            contadorConsultasService.registrarConsulta();
+        }
+
+        contadorConsultasService.finalizar("POST /estagiarios");
+
+        assertNull(meterRegistry.find("http.requisicao.n_mais_um").counter());
+    }
+
+    @Test
+    void testFinalizar_AcimaDoLimite_Alerta() {
+        contadorConsultasService.iniciar();
+        for (int i = 0; i <= LIMITE; i++) {
+            contadorConsultasService.registrarConsulta();
+        }
+
+        int quantidade = contadorConsultasService.finalizar("GET /dashboard/faculdade");
+
+        Counter alertas = meterRegistry.get("http.requisicao.n_mais_um")
+                .tag("rota", "GET /dashboard/faculdade")
+                .counter();
+        assertEquals(LIMITE + 1, quantidade);
+        assertEquals(1.0, alertas.count(), 0.0001);
+    }
+
+    @Test
+    void testRegistrarConsulta_ForaDeRequisicao_Ignorada() {
+        contadorConsultasService.registrarConsulta();
+
+        assertEquals(0, contadorConsultasService.finalizar("agendador"));
+        assertNull(meterRegistry.find("http.requisicao.sql").summary());
+    }
+
+    @Test
+    void testIniciar_ReiniciaContagemEntreRequisicoes() {
+        contadorConsultasService.iniciar();
+        contadorConsultasService.registrarConsulta();
+        contadorConsultasService.registrarConsulta();
+        contadorConsultasService.finalizar("GET /estagiarios/1");
+
+        contadorConsultasService.iniciar();
+        contadorConsultasService.registrarConsulta();
+
+        assertEquals(1, contadorConsultasService.finalizar("GET /estagiarios/1"));
+    }
+
+    @Test
+    void testRegistrarConsulta_IsoladoPorThread() {
+        contadorConsultasService.iniciar();
+        contadorConsultasService.registrarConsulta();
+
+        CompletableFuture.runAsync(() -> {
+            contadorConsultasService.iniciar();
+            for (int i = 0; i < 10; i++) {
+                contadorConsultasService.registrarConsulta();
+            }
+            contadorConsultasService.finalizar("GET /dashboard/supervisor");
+        }).join();
+
+        assertEquals(1, contadorConsultasService.finalizar("GET /estagiarios/1"));
+    }
+
+    @Test
+    void testConstrutor_Falha_LimiteInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ContadorConsultasService(0, meterRegistry);
+        }, "O limite de consultas por requisição deve ser maior que zero.");
+    }
+}
\ No newline at end of file
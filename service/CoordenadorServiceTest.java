@@ -4,6 +4,7 @@ import com.senai.skillmanager.dto.CoordenadorDTO;
 import com.senai.skillmanager.dto.CoordenadorResponseDTO;
 import com.senai.skillmanager.dto.FaculdadeDTO;
 import com.senai.skillmanager.dto.FaculdadeResponseDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
 import com.senai.skillmanager.model.faculdade.Coordenador;
 import com.senai.skillmanager.model.faculdade.Faculdade;
 import com.senai.skillmanager.repository.CoordenadorRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +49,15 @@ public class CoordenadorServiceTest {
     @Mock
     private FaculdadeService faculdadeService;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private CredencialService credencialService;
+
+    @Mock
+    private FiltroUnicidadeService filtroUnicidadeService;
+
     @Mock
     private Authentication authentication;
 
@@ -53,9 +65,14 @@ public class CoordenadorServiceTest {
     private Coordenador coordenadorEntidade;
     private Faculdade faculdadeEntidade;
     private FaculdadeResponseDTO faculdadeResponseDTO;
+    private PrincipalResolvidoDTO principalProprietario;
 
     @BeforeEach
     void setUp() {
+        principalProprietario = new PrincipalResolvidoDTO();
+        principalProprietario.setPapel("FACULDADE");
+        principalProprietario.setId(1L);
+
         coordenadorDTO = new CoordenadorDTO();
         coordenadorDTO.setNome("Coordenador Teste");
         coordenadorDTO.setEmail("teste@faculdade.com");
@@ -84,7 +101,6 @@ public class CoordenadorServiceTest {
 
     @Test
     void testSalvar_FluxoA_NovaFaculdade() {
-        when(coordenadorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
         when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
         when(faculdadeService.salvar(any(FaculdadeDTO.class))).thenReturn(faculdadeResponseDTO);
@@ -98,9 +114,32 @@ public class CoordenadorServiceTest {
         assertNotNull(resultado.getFaculdade());
         assertEquals("Nova Faculdade Teste", resultado.getFaculdade().getNome());
 
+        verify(credencialService, times(1)).emailEmUso("teste@faculdade.com");
+        verify(coordenadorRepository, never()).findByEmail(anyString());
         verify(faculdadeRepository, times(1)).findByCnpj("22222222000122");
         verify(faculdadeService, times(1)).salvar(any(FaculdadeDTO.class));
         verify(coordenadorRepository, times(1)).save(any(Coordenador.class));
+        verify(credencialService, times(1)).sincronizarCoordenador(coordenadorEntidade);
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "teste@faculdade.com");
+    }
+
+    @Test
+    void testSalvar_FiltroIndicaAusencia_PulaConsultas() {
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "teste@faculdade.com")).thenReturn(true);
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_FACULDADE, "22222222000122")).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(faculdadeService.salvar(any(FaculdadeDTO.class))).thenReturn(faculdadeResponseDTO);
+        when(faculdadeService.buscarEntidadePorId(anyLong())).thenReturn(faculdadeEntidade);
+        when(coordenadorRepository.save(any(Coordenador.class))).thenReturn(coordenadorEntidade);
+
+        CoordenadorResponseDTO resultado = coordenadorService.salvar(coordenadorDTO);
+
+        assertNotNull(resultado);
+        verify(coordenadorRepository, never()).findByEmail(anyString());
+        verify(credencialService, never()).emailEmUso(anyString());
+        verify(faculdadeRepository, never()).findByCnpj(anyString());
+        verify(faculdadeService, times(1)).salvar(any(FaculdadeDTO.class));
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "teste@faculdade.com");
     }
 
     @Test
@@ -108,7 +147,6 @@ public class CoordenadorServiceTest {
         coordenadorDTO.setFaculdadeNome(null);
         coordenadorDTO.setFaculdadeTelefone(null);
 
-        when(coordenadorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
         when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
         when(coordenadorRepository.save(any(Coordenador.class))).thenReturn(coordenadorEntidade);
@@ -124,11 +162,25 @@ public class CoordenadorServiceTest {
         verify(coordenadorRepository, times(1)).save(any(Coordenador.class));
     }
 
+    @Test
+    void testSalvar_Falha_EmailEmUsoPorOutroPapel() {
+        when(credencialService.emailEmUso("teste@faculdade.com")).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> {
+            coordenadorService.salvar(coordenadorDTO);
+        }, "Email já cadastrado.");
+
+        verify(coordenadorRepository, never()).findByEmail(anyString());
+        verify(coordenadorRepository, never()).save(any(Coordenador.class));
+        verify(credencialService, never()).sincronizarCoordenador(any(Coordenador.class));
+    }
+
     @Test
     void testBuscarPorId_Sucesso_Proprietario() {
-        when(coordenadorRepository.findById(1L)).thenReturn(Optional.of(coordenadorEntidade));
         when(authentication.getName()).thenReturn("teste@faculdade.com");
         when(authentication.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_FACULDADE")));
+        when(principalCacheService.resolver("teste@faculdade.com")).thenReturn(principalProprietario);
+        when(coordenadorRepository.findById(1L)).thenReturn(Optional.of(coordenadorEntidade));
 
         CoordenadorResponseDTO resultado = coordenadorService.buscarPorId(1L, authentication);
 
@@ -138,16 +190,33 @@ public class CoordenadorServiceTest {
 
     @Test
     void testBuscarPorId_Falha_NaoProprietario() {
-        Coordenador outroCoordenador = new Coordenador();
-        outroCoordenador.setId(2L);
-        outroCoordenador.setEmail("outro@email.com");
-
-        when(coordenadorRepository.findById(2L)).thenReturn(Optional.of(outroCoordenador));
         when(authentication.getName()).thenReturn("teste@faculdade.com");
         when(authentication.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_FACULDADE")));
+        when(principalCacheService.resolver("teste@faculdade.com")).thenReturn(principalProprietario);
 
         assertThrows(SecurityException.class, () -> {
             coordenadorService.buscarPorId(2L, authentication);
         }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(coordenadorRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testSalvar_Falha_ViolacaoDeUnicidadeConcorrente() {
+        coordenadorDTO.setFaculdadeNome(null);
+        coordenadorDTO.setFaculdadeTelefone(null);
+
+        when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(coordenadorRepository.save(any(Coordenador.class))).thenThrow(new DataIntegrityViolationException("uk_coordenador_email"));
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> {
+            coordenadorService.salvar(coordenadorDTO);
+        }, "Email já cadastrado.");
+
+        assertEquals("Email já cadastrado.", erro.getMessage());
+        assertFalse(erro instanceof DataIntegrityViolationException);
+        verify(credencialService, never()).sincronizarCoordenador(any(Coordenador.class));
+        verify(filtroUnicidadeService, never()).registrar(eq(FiltroUnicidadeService.Chave.EMAIL), anyString());
     }
 }
\ No newline at end of file
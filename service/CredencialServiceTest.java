@@ -0,0 +1,340 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.Credencial;
+import com.senai.skillmanager.model.empresa.Empresa;
+import com.senai.skillmanager.model.empresa.Supervisor;
+import com.senai.skillmanager.model.estagiario.DadosAcademicos;
+import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.faculdade.Coordenador;
+import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.repository.CoordenadorRepository;
+import com.senai.skillmanager.repository.CredencialRepository;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import com.senai.skillmanager.repository.SupervisorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CredencialServiceTest {
+
+    @InjectMocks
+    private CredencialService credencialService;
+
+    @Mock
+    private CredencialRepository credencialRepository;
+
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private SupervisorRepository supervisorRepository;
+
+    @Mock
+    private CoordenadorRepository coordenadorRepository;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private Clock clock;
+
+    private Credencial credencialSupervisor;
+    private Supervisor supervisorEntidade;
+
+    @BeforeEach
+    void setUp() {
+        credencialSupervisor = new Credencial();
+        credencialSupervisor.setEmail("teste@empresa.com");
+        credencialSupervisor.setPapel("SUPERVISOR");
+        credencialSupervisor.setEntidadeId(1L);
+        credencialSupervisor.setEmpresaId(1L);
+        credencialSupervisor.setSenhaHash("hashed_senha123");
+
+        Empresa empresa = new Empresa();
+        empresa.setId(1L);
+
+        supervisorEntidade = new Supervisor();
+        supervisorEntidade.setId(1L);
+        supervisorEntidade.setEmail("teste@empresa.com");
+        supervisorEntidade.setSenha("hashed_senha123");
+        supervisorEntidade.setEmpresa(empresa);
+    }
+
+    @Test
+    void testLoadUserByUsername_UmaConsultaComCache() {
+        when(credencialRepository.findById("teste@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        UserDetails primeiro = credencialService.loadUserByUsername("teste@empresa.com");
+        UserDetails segundo = credencialService.loadUserByUsername("teste@empresa.com");
+
+        assertEquals("teste@empresa.com", primeiro.getUsername());
+        assertEquals("hashed_senha123", primeiro.getPassword());
+        assertTrue(primeiro.getAuthorities().stream().anyMatch(autoridade -> autoridade.getAuthority().equals("ROLE_SUPERVISOR")));
+        assertEquals(primeiro.getUsername(), segundo.getUsername());
+        verify(credencialRepository, times(1)).findById("teste@empresa.com");
+    }
+
+    @Test
+    void testLoadUserByUsername_ExpiraAposTtl() {
+        AtomicLong agora = new AtomicLong(0L);
+        when(clock.millis()).thenAnswer(invocation -> agora.get());
+        when(credencialRepository.findById("teste@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        credencialService.loadUserByUsername("teste@empresa.com");
+        agora.set(CredencialService.TTL.toMillis() - 1);
+        credencialService.loadUserByUsername("teste@empresa.com");
+        verify(credencialRepository, times(1)).findById("teste@empresa.com");
+
+        agora.set(CredencialService.TTL.toMillis() + 1);
+        credencialSupervisor.setSenhaHash("hashed_nova_senha");
+        UserDetails aposTtl = credencialService.loadUserByUsername("teste@empresa.com");
+
+        assertEquals("hashed_nova_senha", aposTtl.getPassword());
+        verify(credencialRepository, times(2)).findById("teste@empresa.com");
+    }
+
+    @Test
+    void testLoadUserByUsername_Falha_EmailDesconhecido() {
+        when(credencialRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> {
+            credencialService.loadUserByUsername("desconhecido@teste.com");
+        });
+    }
+
+    @Test
+    void testSincronizarSupervisor_GravaEInvalidaCaches() {
+        when(credencialRepository.findById("teste@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+        credencialService.loadUserByUsername("teste@empresa.com");
+
+        credencialService.sincronizarSupervisor(supervisorEntidade);
+        credencialService.loadUserByUsername("teste@empresa.com");
+
+        ArgumentCaptor<Credencial> captor = ArgumentCaptor.forClass(Credencial.class);
+        verify(credencialRepository, times(1)).save(captor.capture());
+        assertEquals("teste@empresa.com", captor.getValue().getEmail());
+        assertEquals("SUPERVISOR", captor.getValue().getPapel());
+        assertEquals(1L, captor.getValue().getEntidadeId());
+        assertEquals(1L, captor.getValue().getEmpresaId());
+        assertEquals("hashed_senha123", captor.getValue().getSenhaHash());
+        verify(principalCacheService, times(1)).invalidar("teste@empresa.com");
+        verify(credencialRepository, times(3)).findById("teste@empresa.com");
+    }
+
+    @Test
+    void testSincronizarSupervisor_Falha_EmailDeOutroPapel() {
+        Credencial credencialEstagiario = new Credencial();
+        credencialEstagiario.setEmail("teste@empresa.com");
+        credencialEstagiario.setPapel("ESTAGIARIO");
+        credencialEstagiario.setEntidadeId(3L);
+
+        when(credencialRepository.findById("teste@empresa.com")).thenReturn(Optional.of(credencialEstagiario));
+
+        assertThrows(IllegalStateException.class, () -> {
+            credencialService.sincronizarSupervisor(supervisorEntidade);
+        }, "Email já cadastrado para outro usuário.");
+
+        verify(credencialRepository, never()).save(any(Credencial.class));
+        verify(principalCacheService, never()).invalidar(anyString());
+        assertEquals("ESTAGIARIO", credencialEstagiario.getPapel());
+        assertEquals(3L, credencialEstagiario.getEntidadeId());
+    }
+
+    @Test
+    void testEmailEmUso() {
+        when(credencialRepository.existsById("teste@empresa.com")).thenReturn(true);
+        when(credencialRepository.existsById("novo@teste.com")).thenReturn(false);
+
+        assertTrue(credencialService.emailEmUso("teste@empresa.com"));
+        assertFalse(credencialService.emailEmUso("novo@teste.com"));
+    }
+
+    @Test
+    void testReconstruir_CarregaCredenciaisDosTresPapeis() {
+        Faculdade faculdade = new Faculdade();
+        faculdade.setId(2L);
+
+        Coordenador coordenador = new Coordenador();
+        coordenador.setId(5L);
+        coordenador.setEmail("coordenador@faculdade.com");
+        coordenador.setSenha("hashed_coordenador");
+        coordenador.setFaculdade(faculdade);
+
+        DadosAcademicos dadosAcademicos = new DadosAcademicos();
+        dadosAcademicos.setFaculdade(faculdade);
+
+        Estagiario estagiario = new Estagiario();
+        estagiario.setId(3L);
+        estagiario.setEmail("estagiario@teste.com");
+        estagiario.setSenha("hashed_estagiario");
+        estagiario.setEmpresa(supervisorEntidade.getEmpresa());
+        estagiario.setDadosAcademicos(dadosAcademicos);
+
+        Estagiario emailDuplicado = new Estagiario();
+        emailDuplicado.setId(4L);
+        emailDuplicado.setEmail("teste@empresa.com");
+        emailDuplicado.setSenha("hashed_duplicado");
+        emailDuplicado.setEmpresa(supervisorEntidade.getEmpresa());
+        emailDuplicado.setDadosAcademicos(dadosAcademicos);
+
+        when(supervisorRepository.findAll()).thenReturn(Collections.singletonList(supervisorEntidade));
+        when(coordenadorRepository.findAll()).thenReturn(Collections.singletonList(coordenador));
+        when(estagiarioRepository.findAll()).thenReturn(Arrays.asList(estagiario, emailDuplicado));
+        when(credencialRepository.findAllEmails()).thenReturn(Collections.emptyList());
+
+        int gravadas = credencialService.reconstruir();
+
+        ArgumentCaptor<List<Credencial>> captor = ArgumentCaptor.forClass(List.class);
+        verify(credencialRepository, times(1)).saveAll(captor.capture());
+        List<Credencial> credenciais = captor.getValue();
+
+        assertEquals(3, gravadas);
+        assertEquals(3, credenciais.size());
+        assertEquals("SUPERVISOR", credenciais.get(0).getPapel());
+        assertEquals(1L, credenciais.get(0).getEmpresaId());
+        assertEquals("FACULDADE", credenciais.get(1).getPapel());
+        assertEquals(5L, credenciais.get(1).getEntidadeId());
+        assertEquals(2L, credenciais.get(1).getFaculdadeId());
+        assertEquals("ESTAGIARIO", credenciais.get(2).getPapel());
+        assertEquals(3L, credenciais.get(2).getEntidadeId());
+        assertEquals(1L, credenciais.get(2).getEmpresaId());
+        assertEquals(2L, credenciais.get(2).getFaculdadeId());
+        assertEquals("hashed_estagiario", credenciais.get(2).getSenhaHash());
+    }
+
+    @Test
+    void testReconstruir_SemUsuarios_NaoEscreve() {
+        when(supervisorRepository.findAll()).thenReturn(Collections.emptyList());
+        when(coordenadorRepository.findAll()).thenReturn(Collections.emptyList());
+        when(estagiarioRepository.findAll()).thenReturn(Collections.emptyList());
+        when(credencialRepository.findAllEmails()).thenReturn(Collections.emptyList());
+
+        assertEquals(0, credencialService.reconstruir());
+        verify(credencialRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testReconstruir_IndiceIncompleto_GravaSomenteAusentes() {
+        Faculdade faculdade = new Faculdade();
+        faculdade.setId(2L);
+
+        Coordenador coordenador = new Coordenador();
+        coordenador.setId(5L);
+        coordenador.setEmail("coordenador@faculdade.com");
+        coordenador.setSenha("hashed_coordenador");
+        coordenador.setFaculdade(faculdade);
+
+        when(supervisorRepository.findAll()).thenReturn(Collections.singletonList(supervisorEntidade));
+        when(coordenadorRepository.findAll()).thenReturn(Collections.singletonList(coordenador));
+        when(estagiarioRepository.findAll()).thenReturn(Collections.emptyList());
+        when(credencialRepository.findAllEmails()).thenReturn(Collections.singletonList("teste@empresa.com"));
+
+        int gravadas = credencialService.reconstruir();
+
+        ArgumentCaptor<List<Credencial>> captor = ArgumentCaptor.forClass(List.class);
+        verify(credencialRepository, times(1)).saveAll(captor.capture());
+        assertEquals(1, gravadas);
+        assertEquals(1, captor.getValue().size());
+        assertEquals("coordenador@faculdade.com", captor.getValue().get(0).getEmail());
+        assertEquals("FACULDADE", captor.getValue().get(0).getPapel());
+    }
+
+    @Test
+    void testReconstruir_IndiceCompleto_Idempotente() {
+        when(supervisorRepository.findAll()).thenReturn(Collections.singletonList(supervisorEntidade));
+        when(coordenadorRepository.findAll()).thenReturn(Collections.emptyList());
+        when(estagiarioRepository.findAll()).thenReturn(Collections.emptyList());
+        when(credencialRepository.findAllEmails()).thenReturn(Collections.singletonList("teste@empresa.com"));
+
+        assertEquals(0, credencialService.reconstruir());
+        assertEquals(0, credencialService.reconstruir());
+
+        verify(credencialRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testSincronizarEstagiarios_UmaLeituraEUmaEscrita() {
+        Estagiario primeiro = novoEstagiario(3L, "primeiro@teste.com");
+        Estagiario segundo = novoEstagiario(4L, "segundo@teste.com");
+
+        Credencial existente = new Credencial();
+        existente.setEmail("segundo@teste.com");
+        existente.setPapel("ESTAGIARIO");
+        existente.setEntidadeId(4L);
+
+        when(credencialRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(existente));
+
+        credencialService.sincronizarEstagiarios(Arrays.asList(primeiro, segundo));
+
+        ArgumentCaptor<List<Credencial>> captor = ArgumentCaptor.forClass(List.class);
+        verify(credencialRepository, times(1)).findAllById(anyIterable());
+        verify(credencialRepository, times(1)).saveAll(captor.capture());
+        verify(credencialRepository, never()).findById(anyString());
+        verify(credencialRepository, never()).save(any(Credencial.class));
+        assertEquals(2, captor.getValue().size());
+        assertSame(existente, captor.getValue().get(1));
+        assertEquals("hashed_segundo@teste.com", existente.getSenhaHash());
+        assertEquals(3L, captor.getValue().get(0).getEntidadeId());
+        verify(principalCacheService, times(1)).invalidar("primeiro@teste.com");
+        verify(principalCacheService, times(1)).invalidar("segundo@teste.com");
+    }
+
+    @Test
+    void testSincronizarEstagiarios_Falha_EmailDeOutroPapel() {
+        Estagiario estagiario = novoEstagiario(3L, "teste@empresa.com");
+
+        when(credencialRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(credencialSupervisor));
+
+        assertThrows(IllegalStateException.class, () -> {
+            credencialService.sincronizarEstagiarios(Collections.singletonList(estagiario));
+        }, "Email já cadastrado para outro usuário.");
+
+        verify(credencialRepository, never()).saveAll(anyList());
+        verify(principalCacheService, never()).invalidar(anyString());
+        assertEquals("SUPERVISOR", credencialSupervisor.getPapel());
+    }
+
+    @Test
+    void testSincronizarEstagiarios_ListaVazia_NaoConsulta() {
+        credencialService.sincronizarEstagiarios(Collections.emptyList());
+
+        verifyNoInteractions(credencialRepository, principalCacheService);
+    }
+
+    private Estagiario novoEstagiario(Long id, String email) {
+        Faculdade faculdade = new Faculdade();
+        faculdade.setId(2L);
+
+        DadosAcademicos dadosAcademicos = new DadosAcademicos();
+        dadosAcademicos.setFaculdade(faculdade);
+
+        Estagiario estagiario = new Estagiario();
+        estagiario.setId(id);
+        estagiario.setEmail(email);
+        estagiario.setSenha("hashed_" + email);
+        estagiario.setEmpresa(supervisorEntidade.getEmpresa());
+        estagiario.setDadosAcademicos(dadosAcademicos);
+        return estagiario;
+    }
+}
\ No newline at end of file
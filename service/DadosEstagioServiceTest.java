@@ -2,10 +2,12 @@ package com.senai.skillmanager.service;
 
 import com.senai.skillmanager.dto.DadosEstagioDTO;
 import com.senai.skillmanager.dto.DadosEstagioResponseDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
 import com.senai.skillmanager.model.empresa.Empresa;
 import com.senai.skillmanager.model.empresa.Supervisor;
 import com.senai.skillmanager.model.estagiario.DadosEstagio;
 import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.outbox.TipoEvento;
 import com.senai.skillmanager.repository.DadosEstagioRepository;
 import com.senai.skillmanager.repository.EstagiarioRepository;
 import com.senai.skillmanager.repository.SupervisorRepository;
@@ -41,12 +43,21 @@ public class DadosEstagioServiceTest {
     @Mock
     private EstagiarioRepository estagiarioRepository;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
     @Mock
     private SupervisorService supervisorService;
 
     @Mock
     private EstagiarioService estagiarioService;
 
+    @Mock
+    private VersaoRecursoService versaoRecursoService;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Mock
     private Authentication authentication;
 
@@ -55,6 +66,7 @@ public class DadosEstagioServiceTest {
     private Estagiario estagiarioEntidade;
     private Empresa empresaEntidade;
     private DadosEstagio dadosEstagioEntidade;
+    private PrincipalResolvidoDTO principalSupervisor;
 
     @BeforeEach
     void setUp() {
@@ -74,8 +86,13 @@ public class DadosEstagioServiceTest {
         estagiarioEntidade.setId(1L);
         estagiarioEntidade.setEmpresa(empresaEntidade);
 
+        principalSupervisor = new PrincipalResolvidoDTO();
+        principalSupervisor.setPapel("SUPERVISOR");
+        principalSupervisor.setId(1L);
+        principalSupervisor.setEmpresaId(1L);
+
         dadosEstagioEntidade = new DadosEstagio();
-        dadosEstagioEntidade.setId(1L);
+        dadosEstagioEntidade.setId(20L);
         dadosEstagioEntidade.setTitulo("Estágio Teste");
         dadosEstagioEntidade.setSupervisor(supervisorEntidade);
         dadosEstagioEntidade.setEstagiario(estagiarioEntidade);
@@ -84,7 +101,8 @@ public class DadosEstagioServiceTest {
     @Test
     void testSalvar_Sucesso() {
         when(authentication.getName()).thenReturn("supervisor@empresa.com");
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.of(supervisorEntidade));
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(supervisorRepository.getReferenceById(1L)).thenReturn(supervisorEntidade);
         when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
         when(dadosEstagioRepository.save(any(DadosEstagio.class))).thenReturn(dadosEstagioEntidade);
 
@@ -96,15 +114,18 @@ public class DadosEstagioServiceTest {
         assertNotNull(resultado);
         assertEquals("Estágio Teste", resultado.getTitulo());
 
-        verify(supervisorRepository, times(1)).findByEmail("supervisor@empresa.com");
+        verify(principalCacheService, times(1)).resolver("supervisor@empresa.com");
+        verify(supervisorRepository, never()).findByEmail(anyString());
         verify(estagiarioRepository, times(1)).findById(1L);
         verify(dadosEstagioRepository, times(1)).save(any(DadosEstagio.class));
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(estagiarioEntidade);
+        verify(outboxService, times(1)).registrar(TipoEvento.DADOS_ESTAGIO_CRIADO, 20L);
     }
 
     @Test
     void testSalvar_Falha_SupervisorNaoEncontrado() {
         when(authentication.getName()).thenReturn("supervisor@empresa.com");
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(principalCacheService.resolver(anyString())).thenThrow(new EntityNotFoundException("Supervisor não encontrado."));
 
         assertThrows(EntityNotFoundException.class, () -> {
             dadosEstagioService.salvar(dadosEstagioDTO, authentication);
@@ -121,7 +142,7 @@ public class DadosEstagioServiceTest {
         estagiarioEntidade.setEmpresa(outraEmpresa);
 
         when(authentication.getName()).thenReturn("supervisor@empresa.com");
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.of(supervisorEntidade));
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
         when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
 
         assertThrows(SecurityException.class, () -> {
@@ -129,5 +150,26 @@ public class DadosEstagioServiceTest {
         }, "Acesso negado: O estagiário não pertence à empresa deste supervisor.");
 
         verify(dadosEstagioRepository, never()).save(any(DadosEstagio.class));
+        verify(versaoRecursoService, never()).registrarAlteracaoEstagiario(any(Estagiario.class));
+        verify(outboxService, never()).registrar(any(TipoEvento.class), any());
+    }
+
+    @Test
+    void testSalvar_Falha_PrincipalNaoSupervisor() {
+        PrincipalResolvidoDTO principalEstagiario = new PrincipalResolvidoDTO();
+        principalEstagiario.setPapel("ESTAGIARIO");
+        principalEstagiario.setId(1L);
+        principalEstagiario.setEmpresaId(1L);
+
+        when(authentication.getName()).thenReturn("estagiario@teste.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
+
+        assertThrows(SecurityException.class, () -> {
+            dadosEstagioService.salvar(dadosEstagioDTO, authentication);
+        }, "Acesso negado. Apenas supervisores podem registrar dados de estágio.");
+
+        verify(estagiarioRepository, never()).findById(anyLong());
+        verify(supervisorRepository, never()).getReferenceById(anyLong());
+        verify(dadosEstagioRepository, never()).save(any(DadosEstagio.class));
     }
 }
\ No newline at end of file
@@ -1,47 +1,57 @@
 package com.senai.skillmanager.service;
 
+import com.senai.skillmanager.dto.AvaliacaoResponseDTO;
+import com.senai.skillmanager.dto.AvaliacaoResumoDTO;
 import com.senai.skillmanager.dto.DashboardEstagiarioDTO;
+import com.senai.skillmanager.dto.DashboardEstagiarioResumoDTO;
 import com.senai.skillmanager.dto.EstagiarioResponseDTO;
-import com.senai.skillmanager.model.empresa.Empresa;
-import com.senai.skillmanager.model.empresa.Supervisor;
+import com.senai.skillmanager.dto.EstagiarioResumoDTO;
+import com.senai.skillmanager.dto.PaginaCursorDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
+import com.senai.skillmanager.model.avaliacao.Avaliacao;
 import com.senai.skillmanager.model.estagiario.Estagiario;
-import com.senai.skillmanager.model.faculdade.Coordenador;
-import com.senai.skillmanager.model.faculdade.Faculdade;
-import com.senai.skillmanager.repository.CoordenadorRepository;
+import com.senai.skillmanager.repository.AvaliacaoRepository;
 import com.senai.skillmanager.repository.EstagiarioRepository;
-import com.senai.skillmanager.repository.SupervisorRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class DashboardServiceTest {
 
-    @InjectMocks
     private DashboardService dashboardService;
 
     @Mock
-    private SupervisorRepository supervisorRepository;
+    private PrincipalCacheService principalCacheService;
 
     @Mock
-    private CoordenadorRepository coordenadorRepository;
+    private EstagiarioRepository estagiarioRepository;
 
     @Mock
-    private EstagiarioRepository estagiarioRepository;
+    private AvaliacaoRepository avaliacaoRepository;
 
     @Mock
     private EstagiarioService estagiarioService;
@@ -52,27 +62,31 @@ public class DashboardServiceTest {
     @Mock
     private Authentication authentication;
 
-    private Supervisor supervisorEntidade;
-    private Coordenador coordenadorEntidade;
+    private PrincipalResolvidoDTO principalSupervisor;
+    private PrincipalResolvidoDTO principalCoordenador;
+    private PrincipalResolvidoDTO principalEstagiario;
     private Estagiario estagiarioEntidade;
 
     @BeforeEach
     void setUp() {
-        Empresa empresa = new Empresa();
-        empresa.setId(1L);
+        dashboardService = new DashboardService(principalCacheService, estagiarioRepository, avaliacaoRepository,
+                estagiarioService, avaliacaoService, 2000L);
 
-        supervisorEntidade = new Supervisor();
-        supervisorEntidade.setId(1L);
-        supervisorEntidade.setEmail("supervisor@empresa.com");
-        supervisorEntidade.setEmpresa(empresa);
+        principalSupervisor = new PrincipalResolvidoDTO();
+        principalSupervisor.setPapel("SUPERVISOR");
+        principalSupervisor.setId(1L);
+        principalSupervisor.setEmpresaId(1L);
 
-        Faculdade faculdade = new Faculdade();
-        faculdade.setId(1L);
+        principalCoordenador = new PrincipalResolvidoDTO();
+        principalCoordenador.setPapel("FACULDADE");
+        principalCoordenador.setId(1L);
+        principalCoordenador.setFaculdadeId(1L);
 
-        coordenadorEntidade = new Coordenador();
-        coordenadorEntidade.setId(1L);
-        coordenadorEntidade.setEmail("coordenador@faculdade.com");
-        coordenadorEntidade.setFaculdade(faculdade);
+        principalEstagiario = new PrincipalResolvidoDTO();
+        principalEstagiario.setPapel("ESTAGIARIO");
+        principalEstagiario.setId(1L);
+        principalEstagiario.setEmpresaId(1L);
+        principalEstagiario.setFaculdadeId(1L);
 
         estagiarioEntidade = new Estagiario();
         estagiarioEntidade.setId(1L);
@@ -82,7 +96,7 @@ public class DashboardServiceTest {
     @Test
     void testGetSupervisorDashboardData() {
         when(authentication.getName()).thenReturn("supervisor@empresa.com");
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.of(supervisorEntidade));
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
         when(estagiarioRepository.findByEmpresaId(anyLong())).thenReturn(Collections.singletonList(estagiarioEntidade));
         when(estagiarioService.toResponseDTO(any(Estagiario.class))).thenReturn(new EstagiarioResponseDTO());
 
@@ -91,39 +105,327 @@ public class DashboardServiceTest {
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
         verify(estagiarioRepository, times(1)).findByEmpresaId(1L);
+        verify(principalCacheService, times(1)).resolver("supervisor@empresa.com");
+    }
+
+    @Test
+    void testGetSupervisorDashboardData_Falha_PapelIncorreto() {
+        when(authentication.getName()).thenReturn("estagiario@teste.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
+
+        assertThrows(SecurityException.class, () -> {
+            dashboardService.getSupervisorDashboardData(authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioRepository, never()).findByEmpresaId(anyLong());
+    }
+
+    @Test
+    void testGetSupervisorDashboardResumo() {
+        EstagiarioResumoDTO resumo = new EstagiarioResumoDTO(1L, "Estagiario Teste", "estagiario@teste.com",
+                1L, "Empresa Teste", 1L, "Faculdade Teste", "Engenharia de Testes");
+
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findResumoByEmpresaId(anyLong())).thenReturn(Collections.singletonList(resumo));
+
+        List<EstagiarioResumoDTO> resultado = dashboardService.getSupervisorDashboardResumo(authentication);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).empresaId());
+        assertEquals("Faculdade Teste", resultado.get(0).faculdadeNome());
+        verify(estagiarioRepository, times(1)).findResumoByEmpresaId(1L);
+        verify(estagiarioRepository, never()).findByEmpresaId(anyLong());
+        verify(estagiarioService, never()).toResponseDTO(any(Estagiario.class));
+    }
+
+    @Test
+    void testGetSupervisorDashboardPagina_ComProximaPagina() {
+        Estagiario proximoEstagiario = new Estagiario();
+        proximoEstagiario.setId(2L);
+
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findByEmpresaIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any(PageRequest.class)))
+                .thenReturn(Arrays.asList(estagiarioEntidade, proximoEstagiario));
+        when(estagiarioService.toResponseDTO(any(Estagiario.class))).thenReturn(new EstagiarioResponseDTO());
+
+        PaginaCursorDTO<EstagiarioResponseDTO> resultado = dashboardService.getSupervisorDashboardPagina(authentication, null, 1);
+
+        assertNotNull(resultado);
+        assertEquals(1, resultado.getItens().size());
+        assertEquals(1L, resultado.getProximoCursor());
+        verify(estagiarioRepository, times(1)).findByEmpresaIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), eq(PageRequest.of(0, 2)));
+        verify(estagiarioService, times(1)).toResponseDTO(any(Estagiario.class));
+        verify(estagiarioRepository, never()).findByEmpresaId(anyLong());
+    }
+
+    @Test
+    void testGetSupervisorDashboardPagina_UltimaPagina() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findByEmpresaIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.singletonList(estagiarioEntidade));
+        when(estagiarioService.toResponseDTO(any(Estagiario.class))).thenReturn(new EstagiarioResponseDTO());
+
+        PaginaCursorDTO<EstagiarioResponseDTO> resultado = dashboardService.getSupervisorDashboardPagina(authentication, 0L, 50);
+
+        assertNotNull(resultado);
+        assertEquals(1, resultado.getItens().size());
+        assertNull(resultado.getProximoCursor());
+        verify(estagiarioRepository, times(1)).findByEmpresaIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), eq(PageRequest.of(0, 51)));
+    }
+
+    @Test
+    void testGetSupervisorDashboardPagina_TamanhoLimitadoAoMaximo() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findByEmpresaIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any(PageRequest.class)))
+                .thenReturn(Collections.emptyList());
+
+        PaginaCursorDTO<EstagiarioResponseDTO> resultado = dashboardService.getSupervisorDashboardPagina(authentication, null, 10_000_000);
+
+        assertTrue(resultado.getItens().isEmpty());
+        verify(estagiarioRepository, times(1)).findByEmpresaIdAndIdGreaterThanOrderByIdAsc(
+                eq(1L), eq(0L), eq(PageRequest.of(0, DashboardService.TAMANHO_PAGINA_MAXIMO + 1)));
+    }
+
+    @Test
+    void testGetSupervisorDashboardPagina_Falha_TamanhoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            dashboardService.getSupervisorDashboardPagina(authentication, null, 0);
+        }, "O tamanho da página deve ser maior que zero.");
+
+        verify(estagiarioRepository, never()).findByEmpresaIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any(PageRequest.class));
+    }
+
+    @Test
+    void testStreamSupervisorDashboardData() {
+        AtomicBoolean streamFechado = new AtomicBoolean(false);
+        EstagiarioResumoDTO resumo = new EstagiarioResumoDTO(1L, "Estagiario Teste", "estagiario@teste.com",
+                1L, "Empresa Teste", 1L, "Faculdade Teste", "Engenharia de Testes");
+        Stream<EstagiarioResumoDTO> resumos = Stream.of(resumo).onClose(() -> streamFechado.set(true));
+
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+        when(estagiarioRepository.streamResumoByEmpresaIdOrderByIdAsc(anyLong())).thenReturn(resumos);
+
+        List<EstagiarioResumoDTO> recebidos = new ArrayList<>();
+        dashboardService.streamSupervisorDashboardData(authentication, recebidos::add);
+
+        assertEquals(Collections.singletonList(resumo), recebidos);
+        assertTrue(streamFechado.get());
+        verify(estagiarioRepository, times(1)).streamResumoByEmpresaIdOrderByIdAsc(1L);
+        verify(estagiarioRepository, never()).findByEmpresaId(anyLong());
+        verify(estagiarioService, never()).toResponseDTO(any(Estagiario.class));
     }
 
     @Test
     void testGetFaculdadeDashboardData() {
+        Estagiario outroEstagiario = new Estagiario();
+        outroEstagiario.setId(2L);
+        outroEstagiario.setEmail("outro@teste.com");
+
+        Avaliacao primeiraAvaliacao = new Avaliacao();
+        primeiraAvaliacao.setId(1L);
+        primeiraAvaliacao.setEstagiario(estagiarioEntidade);
+
+        Avaliacao segundaAvaliacao = new Avaliacao();
+        segundaAvaliacao.setId(2L);
+        segundaAvaliacao.setEstagiario(estagiarioEntidade);
+
+        Avaliacao avaliacaoOutroEstagiario = new Avaliacao();
+        avaliacaoOutroEstagiario.setId(3L);
+        avaliacaoOutroEstagiario.setEstagiario(outroEstagiario);
+
         when(authentication.getName()).thenReturn("coordenador@faculdade.com");
-        when(coordenadorRepository.findByEmail(anyString())).thenReturn(Optional.of(coordenadorEntidade));
-        when(estagiarioRepository.findByDadosAcademicos_Faculdade_Id(anyLong())).thenReturn(Collections.singletonList(estagiarioEntidade));
+        when(principalCacheService.resolver(anyString())).thenReturn(principalCoordenador);
+        when(estagiarioRepository.findComGrafoByDadosAcademicos_Faculdade_Id(anyLong())).thenReturn(Arrays.asList(estagiarioEntidade, outroEstagiario));
+        when(avaliacaoRepository.findUltimasComSupervisorPorEstagiarios(anyCollection(), anyInt()))
+                .thenReturn(Arrays.asList(primeiraAvaliacao, segundaAvaliacao, avaliacaoOutroEstagiario));
 
-        when(estagiarioService.buscarPorId(anyLong(), any(Authentication.class))).thenReturn(new EstagiarioResponseDTO());
-        when(avaliacaoService.listarPorEstagiario(anyLong())).thenReturn(Collections.emptyList());
+        when(estagiarioService.toResponseDTO(any(Estagiario.class))).thenReturn(new EstagiarioResponseDTO());
+        when(avaliacaoService.toResponseDTO(any(Avaliacao.class))).thenReturn(new AvaliacaoResponseDTO());
 
         List<DashboardEstagiarioDTO> resultado = dashboardService.getFaculdadeDashboardData(authentication);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        verify(estagiarioRepository, times(1)).findByDadosAcademicos_Faculdade_Id(1L);
-        verify(estagiarioService, times(1)).buscarPorId(1L, authentication);
-        verify(avaliacaoService, times(1)).listarPorEstagiario(1L);
+        assertEquals(2, resultado.size());
+        assertEquals(2, resultado.get(0).getAvaliacoes().size());
+        assertEquals(1, resultado.get(1).getAvaliacoes().size());
+        verify(estagiarioRepository, times(1)).findComGrafoByDadosAcademicos_Faculdade_Id(1L);
+        verify(estagiarioRepository, never()).findByDadosAcademicos_Faculdade_Id(anyLong());
+        verify(avaliacaoRepository, times(1)).findUltimasComSupervisorPorEstagiarios(anyCollection(), eq(DashboardService.ULTIMAS_AVALIACOES));
+        verify(estagiarioService, never()).buscarPorId(anyLong(), any(Authentication.class));
+        verify(avaliacaoService, never()).listarPorEstagiario(anyLong());
+    }
+
+    @Test
+    void testGetFaculdadeDashboardData_Falha_PapelIncorreto() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+
+        assertThrows(SecurityException.class, () -> {
+            dashboardService.getFaculdadeDashboardData(authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioRepository, never()).findComGrafoByDadosAcademicos_Faculdade_Id(anyLong());
+    }
+
+    @Test
+    void testGetFaculdadeDashboardData_SemEstagiarios() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalCoordenador);
+        when(estagiarioRepository.findComGrafoByDadosAcademicos_Faculdade_Id(anyLong())).thenReturn(Collections.emptyList());
+
+        List<DashboardEstagiarioDTO> resultado = dashboardService.getFaculdadeDashboardData(authentication);
+
+        assertNotNull(resultado);
+        assertTrue(resultado.isEmpty());
+        verify(avaliacaoRepository, never()).findUltimasComSupervisorPorEstagiarios(anyCollection(), anyInt());
+    }
+
+    @Test
+    void testGetFaculdadeDashboardResumo() {
+        EstagiarioResumoDTO primeiro = new EstagiarioResumoDTO(1L, "Estagiario Teste", "estagiario@teste.com",
+                1L, "Empresa Teste", 1L, "Faculdade Teste", "Engenharia de Testes");
+        EstagiarioResumoDTO segundo = new EstagiarioResumoDTO(2L, "Outro Estagiario", "outro@teste.com",
+                1L, "Empresa Teste", 1L, "Faculdade Teste", "Engenharia de Testes");
+        AvaliacaoResumoDTO avaliacaoPrimeiro = new AvaliacaoResumoDTO(1L, 1L, "Avaliação Teste",
+                LocalDate.now(), 5, 1L, "Supervisor Teste");
+        AvaliacaoResumoDTO avaliacaoSegundo = new AvaliacaoResumoDTO(2L, 2L, "Avaliação Teste",
+                LocalDate.now(), 4, 1L, "Supervisor Teste");
+
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalCoordenador);
+        when(estagiarioRepository.findResumoByFaculdadeId(anyLong())).thenReturn(Arrays.asList(primeiro, segundo));
+        when(avaliacaoRepository.findUltimasResumoPorEstagiarios(anyCollection(), anyInt()))
+                .thenReturn(Arrays.asList(avaliacaoPrimeiro, avaliacaoSegundo));
+
+        List<DashboardEstagiarioResumoDTO> resultado = dashboardService.getFaculdadeDashboardResumo(authentication);
+
+        assertEquals(2, resultado.size());
+        assertEquals(1L, resultado.get(0).estagiario().id());
+        assertEquals(1, resultado.get(0).avaliacoes().size());
+        assertEquals("Supervisor Teste", resultado.get(1).avaliacoes().get(0).supervisorNome());
+        verify(estagiarioRepository, times(1)).findResumoByFaculdadeId(1L);
+        verify(avaliacaoRepository, times(1)).findUltimasResumoPorEstagiarios(anyCollection(), eq(DashboardService.ULTIMAS_AVALIACOES));
+        verify(estagiarioRepository, never()).findComGrafoByDadosAcademicos_Faculdade_Id(anyLong());
+        verify(estagiarioService, never()).toResponseDTO(any(Estagiario.class));
+        verify(avaliacaoService, never()).toResponseDTO(any(Avaliacao.class));
+    }
+
+    @Test
+    void testGetFaculdadeDashboardResumo_SemEstagiarios() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalCoordenador);
+        when(estagiarioRepository.findResumoByFaculdadeId(anyLong())).thenReturn(Collections.emptyList());
+
+        List<DashboardEstagiarioResumoDTO> resultado = dashboardService.getFaculdadeDashboardResumo(authentication);
+
+        assertTrue(resultado.isEmpty());
+        verify(avaliacaoRepository, never()).findUltimasResumoPorEstagiarios(anyCollection(), anyInt());
     }
 
     @Test
     void testGetEstagiarioDashboardData() {
         when(authentication.getName()).thenReturn("estagiario@teste.com");
-        when(estagiarioRepository.findByEmail(anyString())).thenReturn(Optional.of(estagiarioEntidade));
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
 
         when(estagiarioService.buscarPorId(anyLong(), any(Authentication.class))).thenReturn(new EstagiarioResponseDTO());
-        when(avaliacaoService.listarPorEstagiario(anyLong())).thenReturn(Collections.emptyList());
+        when(avaliacaoService.listarUltimas(anyLong(), anyInt())).thenReturn(Collections.emptyList());
 
         DashboardEstagiarioDTO resultado = dashboardService.getEstagiarioDashboardData(authentication);
 
         assertNotNull(resultado);
-        verify(estagiarioRepository, times(1)).findByEmail("estagiario@teste.com");
+        assertNotNull(resultado.getEstagiario());
+        assertTrue(resultado.getSecoesIndisponiveis().isEmpty());
+        verify(principalCacheService, times(1)).resolver("estagiario@teste.com");
+        verify(estagiarioRepository, never()).findByEmail(anyString());
         verify(estagiarioService, times(1)).buscarPorId(1L, authentication);
-        verify(avaliacaoService, times(1)).listarPorEstagiario(1L);
+        verify(avaliacaoService, times(1)).listarUltimas(1L, DashboardService.ULTIMAS_AVALIACOES);
+        verify(avaliacaoService, never()).listarPorEstagiario(anyLong());
+    }
+
+    @Test
+    void testGetEstagiarioDashboardData_Falha_PapelIncorreto() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalSupervisor);
+
+        assertThrows(SecurityException.class, () -> {
+            dashboardService.getEstagiarioDashboardData(authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioService, never()).buscarPorId(anyLong(), any(Authentication.class));
+        verify(avaliacaoService, never()).listarUltimas(anyLong(), anyInt());
+    }
+
+    @Test
+    void testGetEstagiarioDashboardData_SecoesEmParalelo() {
+        CountDownLatch ambasIniciadas = new CountDownLatch(2);
+
+        when(authentication.getName()).thenReturn("estagiario@teste.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
+        when(estagiarioService.buscarPorId(anyLong(), any(Authentication.class))).thenAnswer(invocation -> {
+            ambasIniciadas.countDown();
+            assertTrue(ambasIniciadas.await(1, TimeUnit.SECONDS));
+            return new EstagiarioResponseDTO();
+        });
+        when(avaliacaoService.listarUltimas(anyLong(), anyInt())).thenAnswer(invocation -> {
+            ambasIniciadas.countDown();
+            assertTrue(ambasIniciadas.await(1, TimeUnit.SECONDS));
+            return Collections.emptyList();
+        });
+
+        DashboardEstagiarioDTO resultado = dashboardService.getEstagiarioDashboardData(authentication);
+
+        assertNotNull(resultado.getEstagiario());
+        assertTrue(resultado.getSecoesIndisponiveis().isEmpty());
+    }
+
+    @Test
+    void testGetEstagiarioDashboardData_ResultadoParcial() {
+        when(authentication.getName()).thenReturn("estagiario@teste.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
+        when(estagiarioService.buscarPorId(anyLong(), any(Authentication.class))).thenReturn(new EstagiarioResponseDTO());
+        when(avaliacaoService.listarUltimas(anyLong(), anyInt())).thenThrow(new RuntimeException("Falha ao consultar avaliações."));
+
+        DashboardEstagiarioDTO resultado = dashboardService.getEstagiarioDashboardData(authentication);
+
+        assertNotNull(resultado);
+        assertNotNull(resultado.getEstagiario());
+        assertTrue(resultado.getAvaliacoes().isEmpty());
+        assertEquals(Collections.singletonList(DashboardService.SECAO_AVALIACOES), resultado.getSecoesIndisponiveis());
+    }
+
+    @Test
+    void testGetEstagiarioDashboardData_SecaoLenta_ExcedeTimeout() {
+        AtomicBoolean liberar = new AtomicBoolean(false);
+        DashboardService dashboardComTimeoutCurto = new DashboardService(principalCacheService, estagiarioRepository,
+                avaliacaoRepository, estagiarioService, avaliacaoService, 200L);
+
+        when(authentication.getName()).thenReturn("estagiario@teste.com");
+        when(principalCacheService.resolver(anyString())).thenReturn(principalEstagiario);
+        when(estagiarioService.buscarPorId(anyLong(), any(Authentication.class))).thenReturn(new EstagiarioResponseDTO());
+        when(avaliacaoService.listarUltimas(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!liberar.get() && System.nanoTime() < limite) {
+                Thread.onSpinWait();
+            }
+            return Collections.emptyList();
+        });
+
+        try {
+            long inicio = System.nanoTime();
+            DashboardEstagiarioDTO resultado = dashboardComTimeoutCurto.getEstagiarioDashboardData(authentication);
+            long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            assertTrue(decorridoMs < 2000, "O dashboard deve responder dentro do timeout da seção.");
+            assertNotNull(resultado.getEstagiario());
+            assertTrue(resultado.getAvaliacoes().isEmpty());
+            assertEquals(Collections.singletonList(DashboardService.SECAO_AVALIACOES), resultado.getSecoesIndisponiveis());
+        } finally {
+            liberar.set(true);
+        }
     }
 }
\ No newline at end of file
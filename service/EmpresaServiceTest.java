@@ -13,12 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +32,21 @@ public class EmpresaServiceTest {
     @Mock
     private EmpresaRepository empresaRepository;
 
+    @Mock
+    private GeradorCodigoEmpresaService geradorCodigoEmpresaService;
+
+    @Mock
+    private BuscaService buscaService;
+
+    @Mock
+    private EnderecoService enderecoService;
+
+    @Mock
+    private FiltroUnicidadeService filtroUnicidadeService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
     private EmpresaDTO empresaDTO;
     private Empresa empresaEntidade;
 
@@ -58,7 +75,8 @@ public class EmpresaServiceTest {
     @Test
     void testSalvar_Sucesso_GeraCodigo() {
         when(empresaRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
-        when(empresaRepository.findByCodigoEmpresa(anyString())).thenReturn(Optional.empty());
+        when(geradorCodigoEmpresaService.proximoCodigo()).thenReturn("A1B-C2D");
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
         when(empresaRepository.save(any(Empresa.class))).thenAnswer(invocation -> {
             Empresa empresaSalva = invocation.getArgument(0);
             empresaSalva.setId(1L);
@@ -74,7 +92,24 @@ public class EmpresaServiceTest {
         assertEquals("Empresa Teste", resultado.getNome());
 
         verify(empresaRepository, times(1)).findByCnpj("11111111000111");
+        verify(empresaRepository, never()).findByCodigoEmpresa(anyString());
         verify(empresaRepository, times(1)).save(any(Empresa.class));
+        verify(buscaService, times(1)).indexarEmpresa(any(Empresa.class));
+        verify(enderecoService, times(1)).resolver(empresaDTO.getEndereco());
+        verify(cacheReferenciaService, times(1)).invalidarEmpresa(any(Empresa.class));
+    }
+
+    @Test
+    void testSalvar_FiltroIndicaAusencia_PulaConsulta() {
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_EMPRESA, "11111111000111")).thenReturn(true);
+        when(geradorCodigoEmpresaService.proximoCodigo()).thenReturn("A1B-C2D");
+        when(empresaRepository.save(any(Empresa.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmpresaResponseDTO resultado = empresaService.salvar(empresaDTO);
+
+        assertNotNull(resultado);
+        verify(empresaRepository, never()).findByCnpj(anyString());
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.CNPJ_EMPRESA, "11111111000111");
     }
 
     @Test
@@ -85,7 +120,9 @@ public class EmpresaServiceTest {
             empresaService.salvar(empresaDTO);
         }, "Empresa já cadastrada com este CNPJ.");
 
+        verify(geradorCodigoEmpresaService, never()).proximoCodigo();
         verify(empresaRepository, never()).save(any(Empresa.class));
+        verify(cacheReferenciaService, never()).invalidarEmpresa(any(Empresa.class));
     }
 
     @Test
@@ -101,4 +138,22 @@ public class EmpresaServiceTest {
 
         verify(empresaRepository, never()).save(any(Empresa.class));
     }
+
+    @Test
+    void testSalvar_Falha_ViolacaoDeUnicidadeConcorrente() {
+        when(empresaRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
+        when(geradorCodigoEmpresaService.proximoCodigo()).thenReturn("A1B-C2D");
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
+        when(empresaRepository.save(any(Empresa.class))).thenThrow(new DataIntegrityViolationException("uk_empresa_cnpj"));
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> {
+            empresaService.salvar(empresaDTO);
+        }, "Empresa já cadastrada com este CNPJ.");
+
+        assertEquals("Empresa já cadastrada com este CNPJ.", erro.getMessage());
+        assertFalse(erro instanceof DataIntegrityViolationException);
+        verify(buscaService, never()).indexarEmpresa(any(Empresa.class));
+        verify(cacheReferenciaService, never()).invalidarEmpresa(any(Empresa.class));
+        verify(filtroUnicidadeService, never()).registrar(eq(FiltroUnicidadeService.Chave.CNPJ_EMPRESA), anyString());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.dto.EnderecoDTO;
+import com.senai.skillmanager.model.Cep;
+import com.senai.skillmanager.model.Endereco;
+import com.senai.skillmanager.repository.EnderecoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EnderecoServiceTest {
+
+    @InjectMocks
+    private EnderecoService enderecoService;
+
+    @Mock
+    private EnderecoRepository enderecoRepository;
+
+    @Mock
+    private CepService cepService;
+
+    private EnderecoDTO enderecoDTO;
+    private Endereco enderecoEntidade;
+
+    @BeforeEach
+    void setUp() {
+        enderecoDTO = new EnderecoDTO();
+        enderecoDTO.setCep("12345-678");
+        enderecoDTO.setLogradouro(" Rua Teste ");
+        enderecoDTO.setNumero("100");
+
+        enderecoEntidade = new Endereco();
+        enderecoEntidade.setId(1L);
+        enderecoEntidade.setCep("12345678");
+        enderecoEntidade.setLogradouro("Rua Teste");
+        enderecoEntidade.setNumero("100");
+        enderecoEntidade.setComplemento("");
+    }
+
+    @Test
+    void testResolver_ReutilizaEnderecoExistente() {
+        when(enderecoRepository.findByCepAndLogradouroAndNumeroAndComplemento("12345678", "Rua Teste", "100", ""))
+                .thenReturn(Optional.of(enderecoEntidade));
+
+        Endereco resultado = enderecoService.resolver(enderecoDTO);
+
+        assertSame(enderecoEntidade, resultado);
+        verify(enderecoRepository, never()).save(any(Endereco.class));
+        verify(cepService, never()).buscar(anyString());
+    }
+
+    @Test
+    void testResolver_PreencheAPartirDoCep() {
+        EnderecoDTO somenteCep = new EnderecoDTO();
+        somenteCep.setCep("12345678");
+        somenteCep.setNumero("200");
+
+        Cep cep = new Cep();
+        cep.setCep("12345678");
+        cep.setLogradouro("Avenida Central");
+        cep.setBairro("Centro");
+        cep.setCidade("São Paulo");
+        cep.setUf("SP");
+
+        when(cepService.buscar("12345678")).thenReturn(Optional.of(cep));
+        Endereco inserido = new Endereco();
+        inserido.setId(2L);
+
+        when(enderecoRepository.findByCepAndLogradouroAndNumeroAndComplemento("12345678", "Avenida Central", "200", ""))
+                .thenReturn(Optional.empty(), Optional.of(inserido));
+
+        Endereco resultado = enderecoService.resolver(somenteCep);
+
+        assertSame(inserido, resultado);
+        verify(enderecoRepository, times(1))
+                .inserirSeAusente("12345678", "Avenida Central", "200", "", "Centro", "São Paulo", "SP");
+        verify(enderecoRepository, never()).save(any(Endereco.class));
+    }
+
+    @Test
+    void testResolver_CepDesconhecidoMantemDadosInformados() {
+        when(cepService.buscar("12345678")).thenReturn(Optional.empty());
+        enderecoDTO.setLogradouro(null);
+        when(enderecoRepository.findByCepAndLogradouroAndNumeroAndComplemento("12345678", "", "100", ""))
+                .thenReturn(Optional.empty(), Optional.of(enderecoEntidade));
+
+        enderecoService.resolver(enderecoDTO);
+
+        verify(enderecoRepository, times(1)).inserirSeAusente("12345678", "", "100", "", "", "", "");
+    }
+
+    @Test
+    void testResolver_InsercaoConcorrente_RetornaEnderecoVencedor() {
+        Endereco vencedor = new Endereco();
+        vencedor.setId(7L);
+
+        when(cepService.buscar("12345678")).thenReturn(Optional.empty());
+        when(enderecoRepository.findByCepAndLogradouroAndNumeroAndComplemento("12345678", "Rua Teste", "100", ""))
+                .thenReturn(Optional.empty(), Optional.of(vencedor));
+
+        Endereco resultado = enderecoService.resolver(enderecoDTO);
+
+        assertSame(vencedor, resultado);
+        verify(enderecoRepository, times(1)).inserirSeAusente(anyString(), anyString(), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+        verify(enderecoRepository, times(2)).findByCepAndLogradouroAndNumeroAndComplemento("12345678", "Rua Teste", "100", "");
+        verify(enderecoRepository, never()).save(any(Endereco.class));
+    }
+
+    @Test
+    void testResolver_MesmaTuplaComBairroCidadeUfDivergentes_MantemDadosDoPrimeiroCadastro() {
+        enderecoEntidade.setBairro("Centro");
+        enderecoEntidade.setCidade("São Paulo");
+        enderecoEntidade.setUf("SP");
+
+        enderecoDTO.setBairro("Vila Nova");
+        enderecoDTO.setCidade("Campinas");
+        enderecoDTO.setUf("SP");
+
+        when(enderecoRepository.findByCepAndLogradouroAndNumeroAndComplemento("12345678", "Rua Teste", "100", ""))
+                .thenReturn(Optional.of(enderecoEntidade));
+
+        Endereco resultado = enderecoService.resolver(enderecoDTO);
+
+        assertSame(enderecoEntidade, resultado);
+        assertEquals("Centro", resultado.getBairro());
+        assertEquals("São Paulo", resultado.getCidade());
+        verify(enderecoRepository, never()).save(any(Endereco.class));
+        verify(enderecoRepository, never()).inserirSeAusente(anyString(), anyString(), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void testConsolidarDuplicados_ReapontaReferenciasERemovePerdedores() {
+        Endereco legado = new Endereco();
+        legado.setId(1L);
+        legado.setCep("12345-678");
+        legado.setLogradouro(" Rua Teste ");
+        legado.setNumero("100");
+        legado.setComplemento(null);
+        legado.setBairro(null);
+
+        Endereco duplicado = new Endereco();
+        duplicado.setId(2L);
+        duplicado.setCep("12345678");
+        duplicado.setLogradouro("Rua Teste");
+        duplicado.setNumero("100");
+        duplicado.setComplemento("");
+        duplicado.setBairro("Centro");
+
+        Endereco distinto = new Endereco();
+        distinto.setId(3L);
+        distinto.setCep("87654321");
+        distinto.setLogradouro("Avenida Central");
+        distinto.setNumero("1");
+        distinto.setComplemento("");
+
+        when(enderecoRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, EnderecoService.LOTE_CONSOLIDACAO)))
+                .thenReturn(Arrays.asList(legado, duplicado, distinto));
+        when(enderecoRepository.findByIdGreaterThanOrderByIdAsc(3L, PageRequest.of(0, EnderecoService.LOTE_CONSOLIDACAO)))
+                .thenReturn(Collections.emptyList());
+
+        int removidos = enderecoService.consolidarDuplicados();
+
+        assertEquals(1, removidos);
+        assertEquals("12345678", legado.getCep());
+        assertEquals("Rua Teste", legado.getLogradouro());
+        assertEquals("", legado.getComplemento());
+        assertEquals("Centro", legado.getBairro());
+        verify(enderecoRepository, times(1)).reapontarEmpresas(2L, 1L);
+        verify(enderecoRepository, times(1)).reapontarFaculdades(2L, 1L);
+        verify(enderecoRepository, times(1)).reapontarEstagiarios(2L, 1L);
+        verify(enderecoRepository, times(1)).deleteAllByIdInBatch(Collections.singletonList(2L));
+        verify(enderecoRepository, never()).reapontarEmpresas(eq(3L), anyLong());
+
+        InOrder ordem = inOrder(enderecoRepository);
+        ordem.verify(enderecoRepository).reapontarEstagiarios(2L, 1L);
+        ordem.verify(enderecoRepository).deleteAllByIdInBatch(Collections.singletonList(2L));
+        ordem.verify(enderecoRepository).saveAll(anyList());
+    }
+
+    @Test
+    void testConsolidarDuplicados_SemDuplicados_NaoRemove() {
+        Endereco distinto = new Endereco();
+        distinto.setId(3L);
+        distinto.setCep("87654321");
+        distinto.setLogradouro("Avenida Central");
+        distinto.setNumero("1");
+        distinto.setComplemento("");
+
+        when(enderecoRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(PageRequest.class)))
+                .thenReturn(Arrays.asList(enderecoEntidade, distinto), Collections.emptyList());
+
+        assertEquals(0, enderecoService.consolidarDuplicados());
+
+        verify(enderecoRepository, never()).reapontarEmpresas(anyLong(), anyLong());
+        verify(enderecoRepository, never()).reapontarFaculdades(anyLong(), anyLong());
+        verify(enderecoRepository, never()).reapontarEstagiarios(anyLong(), anyLong());
+        verify(enderecoRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+}
\ No newline at end of file
@@ -4,11 +4,15 @@ import com.senai.skillmanager.dto.DadosAcademicosDTO;
 import com.senai.skillmanager.dto.EnderecoDTO;
 import com.senai.skillmanager.dto.EstagiarioDTO;
 import com.senai.skillmanager.dto.EstagiarioResponseDTO;
+import com.senai.skillmanager.dto.EstagiarioVinculoDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
+import com.senai.skillmanager.dto.RelatorioImportacaoDTO;
 import com.senai.skillmanager.model.Endereco;
 import com.senai.skillmanager.model.empresa.Empresa;
 import com.senai.skillmanager.model.estagiario.DadosAcademicos;
 import com.senai.skillmanager.model.estagiario.Estagiario;
 import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.model.outbox.TipoEvento;
 import com.senai.skillmanager.repository.EmpresaRepository;
 import com.senai.skillmanager.repository.EstagiarioRepository;
 import com.senai.skillmanager.repository.FaculdadeRepository;
@@ -19,13 +23,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +61,36 @@ public class EstagiarioServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private HashSenhaService hashSenhaService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private BuscaService buscaService;
+
+    @Mock
+    private EnderecoService enderecoService;
+
+    @Mock
+    private FiltroUnicidadeService filtroUnicidadeService;
+
+    @Mock
+    private CredencialService credencialService;
+
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private VersaoRecursoService versaoRecursoService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
+    @Mock
+    private Authentication authentication;
+
     private EstagiarioDTO estagiarioDTO;
     private Empresa empresaEntidade;
     private Faculdade faculdadeEntidade;
@@ -92,10 +137,10 @@ public class EstagiarioServiceTest {
     @Test
     void testSalvar_Sucesso() {
         when(estagiarioRepository.findByCpf(anyString())).thenReturn(Optional.empty());
-        when(estagiarioRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(empresaRepository.findByCodigoEmpresa(anyString())).thenReturn(Optional.of(empresaEntidade));
-        when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
+        when(cacheReferenciaService.empresaPorCodigo(anyString())).thenReturn(Optional.of(empresaEntidade));
+        when(cacheReferenciaService.faculdadePorCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
         when(estagiarioRepository.save(any(Estagiario.class))).thenReturn(estagiarioEntidade);
 
         EstagiarioResponseDTO resultado = estagiarioService.salvar(estagiarioDTO);
@@ -104,31 +149,90 @@ public class EstagiarioServiceTest {
         assertEquals("estagiario@teste.com", resultado.getEmail());
         assertEquals("12345678900", resultado.getCpf());
 
-        verify(empresaRepository, times(1)).findByCodigoEmpresa("A1B-C2D");
-        verify(faculdadeRepository, times(1)).findByCnpj("22222222000122");
+        verify(cacheReferenciaService, times(1)).empresaPorCodigo("A1B-C2D");
+        verify(cacheReferenciaService, times(1)).faculdadePorCnpj("22222222000122");
+        verify(empresaRepository, never()).findByCodigoEmpresa(anyString());
         verify(estagiarioRepository, times(1)).save(any(Estagiario.class));
+        verify(outboxService, times(1)).registrar(TipoEvento.ESTAGIARIO_CADASTRADO, 1L);
+        verify(buscaService, times(1)).indexarEstagiario(estagiarioEntidade);
+        verify(enderecoService, times(1)).resolver(estagiarioDTO.getEndereco());
+        verify(credencialService, times(1)).sincronizarEstagiario(estagiarioEntidade);
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(estagiarioEntidade);
+        verify(credencialService, times(1)).emailEmUso("estagiario@teste.com");
+        verify(estagiarioRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void testSalvar_FiltroIndicaAusencia_PulaConsultas() {
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "12345678900")).thenReturn(true);
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "estagiario@teste.com")).thenReturn(true);
+        when(cacheReferenciaService.empresaPorCodigo(anyString())).thenReturn(Optional.of(empresaEntidade));
+        when(cacheReferenciaService.faculdadePorCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(estagiarioRepository.save(any(Estagiario.class))).thenReturn(estagiarioEntidade);
+
+        EstagiarioResponseDTO resultado = estagiarioService.salvar(estagiarioDTO);
+
+        assertNotNull(resultado);
+        verify(estagiarioRepository, never()).findByCpf(anyString());
+        verify(estagiarioRepository, never()).findByEmail(anyString());
+        verify(credencialService, never()).emailEmUso(anyString());
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "12345678900");
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "estagiario@teste.com");
+    }
+
+    @Test
+    void testSalvar_Falha_EmailEmUsoPorOutroPapel() {
+        when(credencialService.emailEmUso("estagiario@teste.com")).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> {
+            estagiarioService.salvar(estagiarioDTO);
+        }, "Email já cadastrado.");
+
+        verify(estagiarioRepository, never()).findByCpf(anyString());
+        verify(estagiarioRepository, never()).save(any(Estagiario.class));
+        verify(credencialService, never()).sincronizarEstagiario(any(Estagiario.class));
+    }
+
+    @Test
+    void testSalvar_Falha_ViolacaoDeUnicidadeConcorrente() {
+        when(estagiarioRepository.findByCpf(anyString())).thenReturn(Optional.empty());
+        when(cacheReferenciaService.empresaPorCodigo(anyString())).thenReturn(Optional.of(empresaEntidade));
+        when(cacheReferenciaService.faculdadePorCnpj(anyString())).thenReturn(Optional.of(faculdadeEntidade));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
+        when(estagiarioRepository.save(any(Estagiario.class))).thenThrow(new DataIntegrityViolationException("uk_estagiario_cpf"));
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> {
+            estagiarioService.salvar(estagiarioDTO);
+        }, "CPF ou email já cadastrado.");
+
+        assertEquals("CPF ou email já cadastrado.", erro.getMessage());
+        assertFalse(erro instanceof DataIntegrityViolationException);
+        verify(credencialService, never()).sincronizarEstagiario(any(Estagiario.class));
+        verify(outboxService, never()).registrar(any(), any());
+        verify(filtroUnicidadeService, never()).registrar(eq(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO), anyString());
     }
 
     @Test
     void testSalvar_Falha_CodigoEmpresaInvalido() {
         when(estagiarioRepository.findByCpf(anyString())).thenReturn(Optional.empty());
-        when(estagiarioRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(empresaRepository.findByCodigoEmpresa(anyString())).thenReturn(Optional.empty());
+        when(cacheReferenciaService.empresaPorCodigo(anyString())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             estagiarioService.salvar(estagiarioDTO);
         }, "Empresa não encontrada com o código: A1B-C2D");
 
-        verify(faculdadeRepository, never()).findByCnpj(anyString());
+        verify(cacheReferenciaService, never()).faculdadePorCnpj(anyString());
         verify(estagiarioRepository, never()).save(any(Estagiario.class));
+        verify(buscaService, never()).indexarEstagiario(any(Estagiario.class));
     }
 
     @Test
     void testSalvar_Falha_FaculdadeCnpjInvalido() {
         when(estagiarioRepository.findByCpf(anyString())).thenReturn(Optional.empty());
-        when(estagiarioRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(empresaRepository.findByCodigoEmpresa(anyString())).thenReturn(Optional.of(empresaEntidade));
-        when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
+        when(cacheReferenciaService.empresaPorCodigo(anyString())).thenReturn(Optional.of(empresaEntidade));
+        when(cacheReferenciaService.faculdadePorCnpj(anyString())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             estagiarioService.salvar(estagiarioDTO);
@@ -136,4 +240,187 @@ public class EstagiarioServiceTest {
 
         verify(estagiarioRepository, never()).save(any(Estagiario.class));
     }
+
+    @Test
+    void testImportarLote_RelatorioPorLinha() {
+        EstagiarioDTO cpfDuplicado = novoEstagiarioDTO("cpf@teste.com", "99999999999", "A1B-C2D");
+        EstagiarioDTO empresaInvalida = novoEstagiarioDTO("empresa@teste.com", "11111111111", "ZZZ-ZZZ");
+        EstagiarioDTO emailRepetidoNoLote = novoEstagiarioDTO("estagiario@teste.com", "22222222222", "A1B-C2D");
+
+        when(estagiarioRepository.findCpfsExistentes(anyCollection())).thenReturn(Collections.singletonList("99999999999"));
+        when(empresaRepository.findByCodigoEmpresaIn(anyCollection())).thenReturn(Collections.singletonList(empresaEntidade));
+        when(faculdadeRepository.findByCnpjIn(anyCollection())).thenReturn(Collections.singletonList(faculdadeEntidade));
+        when(hashSenhaService.encodeLote(anyList())).thenReturn(Collections.singletonList("hashed_senha123"));
+        when(estagiarioRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RelatorioImportacaoDTO relatorio = estagiarioService.importarLote(
+                Arrays.asList(estagiarioDTO, cpfDuplicado, empresaInvalida, emailRepetidoNoLote));
+
+        assertNotNull(relatorio);
+        assertEquals(4, relatorio.getTotalLinhas());
+        assertEquals(1, relatorio.getTotalSucessos());
+        assertEquals(3, relatorio.getFalhas().size());
+        assertEquals(2, relatorio.getFalhas().get(0).getLinha());
+        assertEquals(3, relatorio.getFalhas().get(1).getLinha());
+        assertEquals(4, relatorio.getFalhas().get(2).getLinha());
+
+        verify(estagiarioRepository, times(1)).findCpfsExistentes(anyCollection());
+        verify(estagiarioRepository, never()).findEmailsExistentes(anyCollection());
+        verify(empresaRepository, times(1)).findByCodigoEmpresaIn(anyCollection());
+        verify(faculdadeRepository, times(1)).findByCnpjIn(anyCollection());
+        verify(credencialService, times(1)).emailsEmUso(anyCollection());
+        verify(hashSenhaService, times(1)).encodeLote(anyList());
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(estagiarioRepository, times(1)).saveAll(anyList());
+        verify(estagiarioRepository, never()).findByCpf(anyString());
+        verify(empresaRepository, never()).findByCodigoEmpresa(anyString());
+        verify(outboxService, times(1)).registrar(eq(TipoEvento.ESTAGIARIO_CADASTRADO), any());
+        verify(buscaService, times(1)).indexarEstagiario(any(Estagiario.class));
+        verify(credencialService, times(1)).sincronizarEstagiarios(argThat((List<Estagiario> lista) -> lista.size() == 1));
+        verify(credencialService, never()).sincronizarEstagiario(any(Estagiario.class));
+        verify(versaoRecursoService, times(1)).registrarAlteracaoEstagiario(any(Estagiario.class));
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "12345678900");
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "estagiario@teste.com");
+        verify(filtroUnicidadeService, times(2)).registrar(any(FiltroUnicidadeService.Chave.class), anyString());
+    }
+
+    @Test
+    void testImportarLote_SemLinhasValidas_NaoPersiste() {
+        when(estagiarioRepository.findCpfsExistentes(anyCollection())).thenReturn(Collections.singletonList("12345678900"));
+        when(empresaRepository.findByCodigoEmpresaIn(anyCollection())).thenReturn(Collections.singletonList(empresaEntidade));
+        when(faculdadeRepository.findByCnpjIn(anyCollection())).thenReturn(Collections.singletonList(faculdadeEntidade));
+
+        RelatorioImportacaoDTO relatorio = estagiarioService.importarLote(Collections.singletonList(estagiarioDTO));
+
+        assertEquals(0, relatorio.getTotalSucessos());
+        assertEquals(1, relatorio.getFalhas().size());
+        verify(hashSenhaService, never()).encodeLote(anyList());
+        verify(estagiarioRepository, never()).saveAll(anyList());
+        verify(versaoRecursoService, never()).registrarAlteracaoEstagiario(any(Estagiario.class));
+    }
+
+    @Test
+    void testImportarLote_LoteMaiorQuePoolDeHash_TodasAsLinhasSalvas() {
+        List<EstagiarioDTO> lote = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lote.add(novoEstagiarioDTO("lote" + i + "@teste.com", String.format("%011d", i), "A1B-C2D"));
+            hashes.add("hashed_" + i);
+        }
+
+        when(estagiarioRepository.findCpfsExistentes(anyCollection())).thenReturn(Collections.emptyList());
+        when(empresaRepository.findByCodigoEmpresaIn(anyCollection())).thenReturn(Collections.singletonList(empresaEntidade));
+        when(faculdadeRepository.findByCnpjIn(anyCollection())).thenReturn(Collections.singletonList(faculdadeEntidade));
+        when(hashSenhaService.encodeLote(anyList())).thenReturn(hashes);
+        when(estagiarioRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RelatorioImportacaoDTO relatorio = estagiarioService.importarLote(lote);
+
+        assertEquals(50, relatorio.getTotalLinhas());
+        assertEquals(50, relatorio.getTotalSucessos());
+        assertTrue(relatorio.getFalhas().isEmpty());
+
+        verify(hashSenhaService, times(1)).encodeLote(argThat((List<String> senhas) -> senhas.size() == 50));
+        verify(hashSenhaService, never()).encodeAsync(anyString());
+        verify(estagiarioRepository, times(1)).saveAll(argThat((List<Estagiario> lista) -> lista.size() == 50
+                && lista.get(49).getSenha().equals("hashed_49")));
+        verify(credencialService, times(1)).sincronizarEstagiarios(argThat((List<Estagiario> lista) -> lista.size() == 50));
+        verify(credencialService, never()).sincronizarEstagiario(any(Estagiario.class));
+    }
+
+    private EstagiarioDTO novoEstagiarioDTO(String email, String cpf, String codigoEmpresa) {
+        EstagiarioDTO dto = new EstagiarioDTO();
+        dto.setNome("Estagiario Lote");
+        dto.setEmail(email);
+        dto.setCpf(cpf);
+        dto.setSenha("senha123");
+        dto.setCodigoEmpresa(codigoEmpresa);
+        dto.setEndereco(estagiarioDTO.getEndereco());
+        dto.setDadosAcademicos(estagiarioDTO.getDadosAcademicos());
+        return dto;
+    }
+
+    @Test
+    void testBuscarPorId_Sucesso_ProprioEstagiario() {
+        autenticarComo("estagiario@teste.com", "ROLE_ESTAGIARIO", principal("ESTAGIARIO", 1L, 1L, 1L));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+
+        EstagiarioResponseDTO resultado = estagiarioService.buscarPorId(1L, authentication);
+
+        assertEquals("estagiario@teste.com", resultado.getEmail());
+        verify(estagiarioRepository, never()).findVinculoById(anyLong());
+    }
+
+    @Test
+    void testBuscarPorId_Sucesso_SupervisorDaEmpresa() {
+        autenticarComo("supervisor@empresa.com", "ROLE_SUPERVISOR", principal("SUPERVISOR", 5L, 1L, null));
+        when(estagiarioRepository.findVinculoById(1L)).thenReturn(Optional.of(new EstagiarioVinculoDTO(1L, 1L, 1L)));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+
+        EstagiarioResponseDTO resultado = estagiarioService.buscarPorId(1L, authentication);
+
+        assertNotNull(resultado);
+    }
+
+    @Test
+    void testBuscarPorId_Sucesso_CoordenadorDaFaculdade() {
+        autenticarComo("coordenador@faculdade.com", "ROLE_FACULDADE", principal("FACULDADE", 5L, null, 1L));
+        when(estagiarioRepository.findVinculoById(1L)).thenReturn(Optional.of(new EstagiarioVinculoDTO(1L, 1L, 1L)));
+        when(estagiarioRepository.findById(1L)).thenReturn(Optional.of(estagiarioEntidade));
+
+        EstagiarioResponseDTO resultado = estagiarioService.buscarPorId(1L, authentication);
+
+        assertNotNull(resultado);
+    }
+
+    @Test
+    void testBuscarPorId_Falha_OutroEstagiario() {
+        autenticarComo("outro@teste.com", "ROLE_ESTAGIARIO", principal("ESTAGIARIO", 2L, 1L, 1L));
+
+        assertThrows(SecurityException.class, () -> {
+            estagiarioService.buscarPorId(1L, authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioRepository, never()).findVinculoById(anyLong());
+        verify(estagiarioRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testBuscarPorId_Falha_SupervisorDeOutraEmpresa() {
+        autenticarComo("supervisor@empresa.com", "ROLE_SUPERVISOR", principal("SUPERVISOR", 5L, 2L, null));
+        when(estagiarioRepository.findVinculoById(1L)).thenReturn(Optional.of(new EstagiarioVinculoDTO(1L, 1L, 1L)));
+
+        assertThrows(SecurityException.class, () -> {
+            estagiarioService.buscarPorId(1L, authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testBuscarPorId_Falha_CoordenadorDeOutraFaculdade() {
+        autenticarComo("coordenador@faculdade.com", "ROLE_FACULDADE", principal("FACULDADE", 5L, null, 2L));
+        when(estagiarioRepository.findVinculoById(1L)).thenReturn(Optional.of(new EstagiarioVinculoDTO(1L, 1L, 1L)));
+
+        assertThrows(SecurityException.class, () -> {
+            estagiarioService.buscarPorId(1L, authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(estagiarioRepository, never()).findById(anyLong());
+    }
+
+    private void autenticarComo(String email, String autoridade, PrincipalResolvidoDTO principal) {
+        when(authentication.getName()).thenReturn(email);
+        when(authentication.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority(autoridade)));
+        when(principalCacheService.resolver(email)).thenReturn(principal);
+    }
+
+    private PrincipalResolvidoDTO principal(String papel, Long id, Long empresaId, Long faculdadeId) {
+        PrincipalResolvidoDTO principal = new PrincipalResolvidoDTO();
+        principal.setPapel(papel);
+        principal.setId(id);
+        principal.setEmpresaId(empresaId);
+        principal.setFaculdadeId(faculdadeId);
+        return principal;
+    }
 }
\ No newline at end of file
@@ -12,12 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,18 @@ public class FaculdadeServiceTest {
     @Mock
     private FaculdadeRepository faculdadeRepository;
 
+    @Mock
+    private BuscaService buscaService;
+
+    @Mock
+    private EnderecoService enderecoService;
+
+    @Mock
+    private FiltroUnicidadeService filtroUnicidadeService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
     private FaculdadeDTO faculdadeDTO;
     private Faculdade faculdadeEntidade;
 
@@ -53,6 +67,7 @@ public class FaculdadeServiceTest {
     @Test
     void testSalvar_Sucesso() {
         when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
         when(faculdadeRepository.save(any(Faculdade.class))).thenReturn(faculdadeEntidade);
 
         FaculdadeResponseDTO resultado = faculdadeService.salvar(faculdadeDTO);
@@ -63,6 +78,23 @@ public class FaculdadeServiceTest {
 
         verify(faculdadeRepository, times(1)).findByCnpj("22222222000122");
         verify(faculdadeRepository, times(1)).save(any(Faculdade.class));
+        verify(buscaService, times(1)).indexarFaculdade(faculdadeEntidade);
+        verify(enderecoService, times(1)).resolver(faculdadeDTO.getEndereco());
+        verify(cacheReferenciaService, times(1)).invalidarFaculdade(faculdadeEntidade);
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.CNPJ_FACULDADE, "22222222000122");
+    }
+
+    @Test
+    void testSalvar_FiltroIndicaAusencia_PulaConsulta() {
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_FACULDADE, "22222222000122")).thenReturn(true);
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
+        when(faculdadeRepository.save(any(Faculdade.class))).thenReturn(faculdadeEntidade);
+
+        FaculdadeResponseDTO resultado = faculdadeService.salvar(faculdadeDTO);
+
+        assertNotNull(resultado);
+        verify(faculdadeRepository, never()).findByCnpj(anyString());
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.CNPJ_FACULDADE, "22222222000122");
     }
 
     @Test
@@ -75,4 +107,21 @@ public class FaculdadeServiceTest {
 
         verify(faculdadeRepository, never()).save(any(Faculdade.class));
     }
+
+    @Test
+    void testSalvar_Falha_ViolacaoDeUnicidadeConcorrente() {
+        when(faculdadeRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
+        when(enderecoService.resolver(any(EnderecoDTO.class))).thenReturn(new Endereco());
+        when(faculdadeRepository.save(any(Faculdade.class))).thenThrow(new DataIntegrityViolationException("uk_faculdade_cnpj"));
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> {
+            faculdadeService.salvar(faculdadeDTO);
+        }, "CNPJ já cadastrado.");
+
+        assertEquals("CNPJ já cadastrado.", erro.getMessage());
+        assertFalse(erro instanceof DataIntegrityViolationException);
+        verify(buscaService, never()).indexarFaculdade(any(Faculdade.class));
+        verify(cacheReferenciaService, never()).invalidarFaculdade(any(Faculdade.class));
+        verify(filtroUnicidadeService, never()).registrar(eq(FiltroUnicidadeService.Chave.CNPJ_FACULDADE), anyString());
+    }
 }
\ No newline at end of file
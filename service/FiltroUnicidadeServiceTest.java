@@ -0,0 +1,115 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.repository.CoordenadorRepository;
+import com.senai.skillmanager.repository.EmpresaRepository;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import com.senai.skillmanager.repository.FaculdadeRepository;
+import com.senai.skillmanager.repository.SupervisorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FiltroUnicidadeServiceTest {
+
+    private static final int CAPACIDADE_ESPERADA = 10_000;
+    private static final double TAXA_FALSO_POSITIVO = 0.01;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private SupervisorRepository supervisorRepository;
+
+    @Mock
+    private CoordenadorRepository coordenadorRepository;
+
+    @Mock
+    private EmpresaRepository empresaRepository;
+
+    @Mock
+    private FaculdadeRepository faculdadeRepository;
+
+    private FiltroUnicidadeService filtroUnicidadeService;
+
+    @BeforeEach
+    void setUp() {
+        filtroUnicidadeService = new FiltroUnicidadeService(estagiarioRepository, supervisorRepository, coordenadorRepository,
+                empresaRepository, faculdadeRepository, CAPACIDADE_ESPERADA, TAXA_FALSO_POSITIVO);
+    }
+
+    @Test
+    void testDefinitivamenteAusente_AntesDoAquecimento() {
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "12345678900"));
+    }
+
+    @Test
+    void testAquecer_CarregaChavesExistentes() {
+        aquecerComUmRegistroPorChave();
+
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "12345678900"));
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "estagiario@teste.com"));
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "teste@empresa.com"));
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "teste@faculdade.com"));
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_EMPRESA, "11111111000111"));
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_FACULDADE, "22222222000122"));
+        assertTrue(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "novo@teste.com"));
+        assertTrue(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "estagiario@teste.com"));
+    }
+
+    @Test
+    void testRegistrar_AtualizaAposInsercao() {
+        aquecerComUmRegistroPorChave();
+
+        assertTrue(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "98765432100"));
+        filtroUnicidadeService.registrar(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "98765432100");
+        assertFalse(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CPF_ESTAGIARIO, "98765432100"));
+    }
+
+    @Test
+    void testDefinitivamenteAusente_TaxaDeFalsoPositivoBaixa() {
+        aquecerComUmRegistroPorChave();
+        for (int i = 0; i < 1000; i++) {
+            filtroUnicidadeService.registrar(FiltroUnicidadeService.Chave.EMAIL, "cadastrado" + i + "@teste.com");
+        }
+
+        int ausentes = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "novo" + i + "@teste.com")) {
+                ausentes++;
+            }
+        }
+
+        assertTrue(ausentes >= 950);
+    }
+
+    @Test
+    void testConstrutor_Falha_ParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new FiltroUnicidadeService(estagiarioRepository, supervisorRepository, coordenadorRepository,
+                    empresaRepository, faculdadeRepository, 0, TAXA_FALSO_POSITIVO);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new FiltroUnicidadeService(estagiarioRepository, supervisorRepository, coordenadorRepository,
+                    empresaRepository, faculdadeRepository, CAPACIDADE_ESPERADA, 1.0);
+        });
+    }
+
+    private void aquecerComUmRegistroPorChave() {
+        when(estagiarioRepository.findAllCpfs()).thenReturn(Collections.singletonList("12345678900"));
+        when(estagiarioRepository.findAllEmails()).thenReturn(Collections.singletonList("estagiario@teste.com"));
+        when(supervisorRepository.findAllEmails()).thenReturn(Collections.singletonList("teste@empresa.com"));
+        when(coordenadorRepository.findAllEmails()).thenReturn(Collections.singletonList("teste@faculdade.com"));
+        when(empresaRepository.findAllCnpjs()).thenReturn(Collections.singletonList("11111111000111"));
+        when(faculdadeRepository.findAllCnpjs()).thenReturn(Collections.singletonList("22222222000122"));
+
+        filtroUnicidadeService.aquecer();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.repository.EmpresaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GeradorCodigoEmpresaServiceTest {
+
+    private static final long CHAVE = 0x5EC2E7L;
+
+    @Mock
+    private EmpresaRepository empresaRepository;
+
+    @Test
+    void testProximoCodigo_ReservaPorBloco() {
+        GeradorCodigoEmpresaService gerador = new GeradorCodigoEmpresaService(empresaRepository, CHAVE);
+        when(empresaRepository.incrementoSequenciaCodigo()).thenReturn(1000L);
+        when(empresaRepository.reservarBlocoCodigo()).thenReturn(0L, 1000L, 2000L);
+
+        Set<String> codigos = new HashSet<>();
+        for (int i = 0; i < 2500; i++) {
+            String codigo = gerador.proximoCodigo();
+            assertTrue(codigo.matches("[A-Z0-9]{3}-[A-Z0-9]{3}"));
+            codigos.add(codigo);
+        }
+
+        assertEquals(2500, codigos.size());
+        verify(empresaRepository, times(3)).reservarBlocoCodigo();
+        verify(empresaRepository, times(1)).incrementoSequenciaCodigo();
+        verify(empresaRepository, times(1)).findAllCodigosEmpresa();
+        verify(empresaRepository, never()).findByCodigoEmpresa(anyString());
+        verify(empresaRepository, never()).existsByCodigoEmpresa(anyString());
+    }
+
+    @Test
+    void testProximoCodigo_NosDistintosNaoColidem() {
+        EmpresaRepository repositorioOutroNo = mock(EmpresaRepository.class);
+        GeradorCodigoEmpresaService noA = new GeradorCodigoEmpresaService(empresaRepository, CHAVE);
+        GeradorCodigoEmpresaService noB = new GeradorCodigoEmpresaService(repositorioOutroNo, CHAVE);
+        when(empresaRepository.incrementoSequenciaCodigo()).thenReturn(500L);
+        when(repositorioOutroNo.incrementoSequenciaCodigo()).thenReturn(500L);
+        when(empresaRepository.reservarBlocoCodigo()).thenReturn(0L);
+        when(repositorioOutroNo.reservarBlocoCodigo()).thenReturn(500L);
+
+        Set<String> codigos = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            codigos.add(noA.proximoCodigo());
+            codigos.add(noB.proximoCodigo());
+        }
+
+        assertEquals(1000, codigos.size());
+    }
+
+    @Test
+    void testCodificar_NaoSequencial() {
+        String primeiro = GeradorCodigoEmpresaService.codificar(0L, CHAVE);
+        String segundo = GeradorCodigoEmpresaService.codificar(1L, CHAVE);
+
+        assertNotEquals(primeiro, segundo);
+        assertNotEquals(primeiro.substring(0, 6), segundo.substring(0, 6));
+        assertThrows(IllegalStateException.class, () -> {
+            GeradorCodigoEmpresaService.codificar(GeradorCodigoEmpresaService.TOTAL_CODIGOS, CHAVE);
+        });
+    }
+
+    @Test
+    void testCodificar_PermutacaoReversivel() {
+        Random aleatorio = new Random(42L);
+        long[] indices = new long[1003];
+        indices[0] = 0L;
+        indices[1] = 1L;
+        indices[2] = GeradorCodigoEmpresaService.TOTAL_CODIGOS - 1;
+        for (int i = 3; i < indices.length; i++) {
+            indices[i] = Math.floorMod(aleatorio.nextLong(), GeradorCodigoEmpresaService.TOTAL_CODIGOS);
+        }
+
+        for (long indice : indices) {
+            String codigo = GeradorCodigoEmpresaService.codificar(indice, CHAVE);
+            assertTrue(codigo.matches("[A-Z0-9]{3}-[A-Z0-9]{3}"));
+            assertEquals(indice, GeradorCodigoEmpresaService.decodificar(codigo, CHAVE));
+        }
+    }
+
+    @Test
+    void testCodificar_ChaveDistinta_SequenciaDistinta() {
+        int iguais = 0;
+        for (long indice = 0; indice < 100; indice++) {
+            if (GeradorCodigoEmpresaService.codificar(indice, CHAVE)
+                    .equals(GeradorCodigoEmpresaService.codificar(indice, CHAVE + 1))) {
+                iguais++;
+            }
+        }
+
+        assertTrue(iguais < 5);
+    }
+
+    @Test
+    void testProximoCodigo_ColisaoComCodigoLegado_AvancaIndice() {
+        GeradorCodigoEmpresaService gerador = new GeradorCodigoEmpresaService(empresaRepository, CHAVE);
+        String legado = GeradorCodigoEmpresaService.codificar(0L, CHAVE);
+        when(empresaRepository.incrementoSequenciaCodigo()).thenReturn(1000L);
+        when(empresaRepository.findAllCodigosEmpresa()).thenReturn(Collections.singletonList(legado));
+        when(empresaRepository.reservarBlocoCodigo()).thenReturn(0L);
+
+        String primeiro = gerador.proximoCodigo();
+        String segundo = gerador.proximoCodigo();
+
+        assertEquals(GeradorCodigoEmpresaService.codificar(1L, CHAVE), primeiro);
+        assertEquals(GeradorCodigoEmpresaService.codificar(2L, CHAVE), segundo);
+        verify(empresaRepository, times(1)).findAllCodigosEmpresa();
+        verify(empresaRepository, never()).existsByCodigoEmpresa(anyString());
+        verify(empresaRepository, times(1)).reservarBlocoCodigo();
+    }
+
+    @Test
+    void testProximoCodigo_Falha_IncrementoDaSequenciaInvalido() {
+        GeradorCodigoEmpresaService gerador = new GeradorCodigoEmpresaService(empresaRepository, CHAVE);
+        when(empresaRepository.incrementoSequenciaCodigo()).thenReturn(0L);
+
+        assertThrows(IllegalStateException.class, () -> {
+            gerador.proximoCodigo();
+        });
+
+        verify(empresaRepository, never()).reservarBlocoCodigo();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.senai.skillmanager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class HashSenhaServiceTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HashSenhaService hashSenhaService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashSenhaService = new HashSenhaService(delegate, 1, 0, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashSenhaService.encerrar();
+    }
+
+    @Test
+    void testEncode_Sucesso_RegistraMetricas() {
+        when(delegate.encode("senha123")).thenReturn("hashed_senha123");
+
+        String resultado = hashSenhaService.encode("senha123");
+
+        assertEquals("hashed_senha123", resultado);
+        assertEquals(1, meterRegistry.get("senha.hash.fila").timer().count());
+        assertEquals(1, meterRegistry.get("senha.hash.execucao").timer().count());
+        verify(delegate, times(1)).encode("senha123");
+    }
+
+    @Test
+    void testEncode_Falha_PoolSaturado() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return "hashed_" + invocation.getArgument(0);
+        });
+
+        CompletableFuture<String> primeiro = CompletableFuture.supplyAsync(() -> hashSenhaService.encode("primeira"));
+        assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException excecao = assertThrows(ResponseStatusException.class, () -> {
+            hashSenhaService.encode("segunda");
+        });
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, excecao.getStatusCode());
+
+        liberar.countDown();
+        assertEquals("hashed_primeira", primeiro.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).encode(anyString());
+    }
+
+    @Test
+    void testMatches_Delega() {
+        when(delegate.matches("senha123", "hashed_senha123")).thenReturn(true);
+
+        assertTrue(hashSenhaService.matches("senha123", "hashed_senha123"));
+        verify(delegate, times(1)).matches("senha123", "hashed_senha123");
+    }
+
+    @Test
+    void testEncodeAsync_ExecutaEmParalelo() throws Exception {
+        HashSenhaService paralelo = new HashSenhaService(delegate, 2, 0, meterRegistry);
+        CountDownLatch ambosIniciaram = new CountDownLatch(2);
+
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            ambosIniciaram.countDown();
+            assertTrue(ambosIniciaram.await(5, TimeUnit.SECONDS));
+            return "hashed_" + invocation.getArgument(0);
+        });
+
+        try {
+            CompletableFuture<String> primeiro = paralelo.encodeAsync("primeira");
+            CompletableFuture<String> segundo = paralelo.encodeAsync("segunda");
+
+            assertEquals("hashed_primeira", primeiro.get(5, TimeUnit.SECONDS));
+            assertEquals("hashed_segunda", segundo.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(2)).encode(anyString());
+        } finally {
+            paralelo.encerrar();
+        }
+    }
+
+    @Test
+    void testEncodeAsync_PoolSaturado_FuturoFalha() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return "hashed_" + invocation.getArgument(0);
+        });
+
+        CompletableFuture<String> primeiro = hashSenhaService.encodeAsync("primeira");
+        assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> segundo = hashSenhaService.encodeAsync("segunda");
+
+        ExecutionException excecao = assertThrows(ExecutionException.class, () -> {
+            segundo.get(5, TimeUnit.SECONDS);
+        });
+        ResponseStatusException causa = assertInstanceOf(ResponseStatusException.class, excecao.getCause());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, causa.getStatusCode());
+
+        liberar.countDown();
+        assertEquals("hashed_primeira", primeiro.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).encode(anyString());
+    }
+
+    @Test
+    void testEncodeLote_LoteMaiorQuePoolEFila_TodosConcluem() {
+        when(delegate.encode(anyString())).thenAnswer(invocation -> "hashed_" + invocation.getArgument(0));
+
+        List<String> senhas = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            senhas.add("senha" + i);
+        }
+
+        List<String> hashes = hashSenhaService.encodeLote(senhas);
+
+        assertEquals(20, hashes.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("hashed_senha" + i, hashes.get(i));
+        }
+        verify(delegate, times(20)).encode(anyString());
+        assertEquals(20, meterRegistry.get("senha.hash.execucao").timer().count());
+    }
+
+    @Test
+    void testEncodeLote_UsaTodasAsThreads() {
+        HashSenhaService paralelo = new HashSenhaService(delegate, 2, 0, meterRegistry);
+        CountDownLatch ambosIniciaram = new CountDownLatch(2);
+
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            ambosIniciaram.countDown();
+            assertTrue(ambosIniciaram.await(5, TimeUnit.SECONDS));
+            return "hashed_" + invocation.getArgument(0);
+        });
+
+        try {
+            List<String> hashes = paralelo.encodeLote(List.of("primeira", "segunda"));
+
+            assertEquals(List.of("hashed_primeira", "hashed_segunda"), hashes);
+        } finally {
+            paralelo.encerrar();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.outbox.EventoOutbox;
+import com.senai.skillmanager.model.outbox.TipoEvento;
+import com.senai.skillmanager.repository.EventoOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxDispatcherServiceTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Mock
+    private ConsumidorEvento consumidorEvento;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcherService outboxDispatcherService;
+
+    private EventoOutbox avaliacaoCriada;
+    private EventoOutbox dadosEstagioCriado;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxDispatcherService = new OutboxDispatcherService(eventoOutboxRepository,
+                Collections.singletonList(consumidorEvento), meterRegistry);
+
+        avaliacaoCriada = new EventoOutbox();
+        avaliacaoCriada.setId(1L);
+        avaliacaoCriada.setTipo(TipoEvento.AVALIACAO_CRIADA);
+        avaliacaoCriada.setAgregadoId(10L);
+        avaliacaoCriada.setCriadoEm(LocalDateTime.now().minusSeconds(2));
+        avaliacaoCriada.setTentativas(0);
+
+        dadosEstagioCriado = new EventoOutbox();
+        dadosEstagioCriado.setId(2L);
+        dadosEstagioCriado.setTipo(TipoEvento.DADOS_ESTAGIO_CRIADO);
+        dadosEstagioCriado.setAgregadoId(20L);
+        dadosEstagioCriado.setCriadoEm(LocalDateTime.now().minusSeconds(1));
+        dadosEstagioCriado.setTentativas(0);
+    }
+
+    @Test
+    void testDespacharLote_EntregaEMarcaProcessado() {
+        when(eventoOutboxRepository.findPendentes(any(LocalDateTime.class), eq(OutboxDispatcherService.TAMANHO_LOTE)))
+                .thenReturn(Arrays.asList(avaliacaoCriada, dadosEstagioCriado));
+
+        int despachados = outboxDispatcherService.despacharLote();
+
+        assertEquals(2, despachados);
+        assertNotNull(avaliacaoCriada.getProcessadoEm());
+        assertNotNull(dadosEstagioCriado.getProcessadoEm());
+        verify(consumidorEvento, times(1)).consumir(avaliacaoCriada);
+        verify(consumidorEvento, times(1)).consumir(dadosEstagioCriado);
+        verify(eventoOutboxRepository, times(1)).saveAll(anyList());
+        assertEquals(2, meterRegistry.get("outbox.atraso").timer().count());
+    }
+
+    @Test
+    void testDespacharLote_FalhaMantemPendente() {
+        when(eventoOutboxRepository.findPendentes(any(LocalDateTime.class), eq(OutboxDispatcherService.TAMANHO_LOTE)))
+                .thenReturn(Arrays.asList(avaliacaoCriada, dadosEstagioCriado));
+        doThrow(new RuntimeException("Consumidor indisponível.")).when(consumidorEvento).consumir(dadosEstagioCriado);
+
+        int despachados = outboxDispatcherService.despacharLote();
+
+        assertEquals(1, despachados);
+        assertNotNull(avaliacaoCriada.getProcessadoEm());
+        assertNull(dadosEstagioCriado.getProcessadoEm());
+        assertEquals(1, dadosEstagioCriado.getTentativas());
+        assertNotNull(dadosEstagioCriado.getProximaTentativaEm());
+        assertTrue(dadosEstagioCriado.getProximaTentativaEm().isAfter(LocalDateTime.now()));
+        assertNull(dadosEstagioCriado.getFalhaDefinitivaEm());
+        verify(eventoOutboxRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testDespacharLote_BackoffCresceComTentativas() {
+        dadosEstagioCriado.setTentativas(3);
+        when(eventoOutboxRepository.findPendentes(any(LocalDateTime.class), eq(OutboxDispatcherService.TAMANHO_LOTE)))
+                .thenReturn(Collections.singletonList(dadosEstagioCriado));
+        doThrow(new RuntimeException("Consumidor indisponível.")).when(consumidorEvento).consumir(dadosEstagioCriado);
+
+        LocalDateTime antes = LocalDateTime.now();
+        outboxDispatcherService.despacharLote();
+
+        assertEquals(4, dadosEstagioCriado.getTentativas());
+        assertFalse(dadosEstagioCriado.getProximaTentativaEm()
+                .isBefore(antes.plus(OutboxDispatcherService.ESPERA_BASE.multipliedBy(8))));
+    }
+
+    @Test
+    void testDespacharLote_ExcedeTentativas_FalhaDefinitiva() {
+        dadosEstagioCriado.setTentativas(OutboxDispatcherService.MAX_TENTATIVAS - 1);
+        when(eventoOutboxRepository.findPendentes(any(LocalDateTime.class), eq(OutboxDispatcherService.TAMANHO_LOTE)))
+                .thenReturn(Collections.singletonList(dadosEstagioCriado));
+        doThrow(new RuntimeException("Consumidor indisponível.")).when(consumidorEvento).consumir(dadosEstagioCriado);
+
+        int despachados = outboxDispatcherService.despacharLote();
+
+        assertEquals(0, despachados);
+        assertEquals(OutboxDispatcherService.MAX_TENTATIVAS, dadosEstagioCriado.getTentativas());
+        assertNotNull(dadosEstagioCriado.getFalhaDefinitivaEm());
+        assertNull(dadosEstagioCriado.getProximaTentativaEm());
+        assertNull(dadosEstagioCriado.getProcessadoEm());
+        assertEquals(1, meterRegistry.get("outbox.falha.definitiva").counter().count(), 0.0001);
+    }
+
+    @Test
+    void testDespacharLote_SemPendentes() {
+        when(eventoOutboxRepository.findPendentes(any(LocalDateTime.class), eq(OutboxDispatcherService.TAMANHO_LOTE))).thenReturn(Collections.emptyList());
+
+        assertEquals(0, outboxDispatcherService.despacharLote());
+
+        verify(consumidorEvento, never()).consumir(any(EventoOutbox.class));
+        verify(eventoOutboxRepository, never()).saveAll(anyList());
+    }
+}
\ No newline at end of file
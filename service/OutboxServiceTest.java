@@ -0,0 +1,74 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.model.outbox.EventoOutbox;
+import com.senai.skillmanager.model.outbox.TipoEvento;
+import com.senai.skillmanager.repository.EventoOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceTest {
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Test
+    void testRegistrar_GravaEventoPendente() {
+        outboxService.registrar(TipoEvento.AVALIACAO_CRIADA, 10L);
+
+        ArgumentCaptor<EventoOutbox> captor = ArgumentCaptor.forClass(EventoOutbox.class);
+        verify(eventoOutboxRepository, times(1)).save(captor.capture());
+        EventoOutbox evento = captor.getValue();
+
+        assertEquals(TipoEvento.AVALIACAO_CRIADA, evento.getTipo());
+        assertEquals(10L, evento.getAgregadoId());
+        assertNotNull(evento.getCriadoEm());
+        assertNull(evento.getProcessadoEm());
+        assertNull(evento.getProximaTentativaEm());
+        assertNull(evento.getFalhaDefinitivaEm());
+        assertEquals(0, evento.getTentativas());
+    }
+
+    @Test
+    void testPurgarProcessados_ApagaEmLotesAteEsvaziar() {
+        when(eventoOutboxRepository.deleteProcessadosAntesDe(any(LocalDateTime.class), eq(OutboxService.LOTE_RETENCAO)))
+                .thenReturn(OutboxService.LOTE_RETENCAO, OutboxService.LOTE_RETENCAO, 3);
+
+        LocalDateTime antes = LocalDateTime.now();
+        int removidos = outboxService.purgarProcessados();
+        LocalDateTime depois = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventoOutboxRepository, times(3)).deleteProcessadosAntesDe(captor.capture(), eq(OutboxService.LOTE_RETENCAO));
+        LocalDateTime limite = captor.getAllValues().get(0);
+
+        assertEquals(2 * OutboxService.LOTE_RETENCAO + 3, removidos);
+        assertFalse(limite.isBefore(antes.minus(OutboxService.RETENCAO)));
+        assertFalse(limite.isAfter(depois.minus(OutboxService.RETENCAO)));
+        assertEquals(1, captor.getAllValues().stream().distinct().count());
+    }
+
+    @Test
+    void testPurgarProcessados_NadaParaApagar() {
+        when(eventoOutboxRepository.deleteProcessadosAntesDe(any(LocalDateTime.class), anyInt())).thenReturn(0);
+
+        assertEquals(0, outboxService.purgarProcessados());
+
+        verify(eventoOutboxRepository, times(1)).deleteProcessadosAntesDe(any(LocalDateTime.class), anyInt());
+    }
+}
\ No newline at end of file
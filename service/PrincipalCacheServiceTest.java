@@ -0,0 +1,155 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
+import com.senai.skillmanager.model.Credencial;
+import com.senai.skillmanager.repository.CredencialRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheServiceTest {
+
+    @InjectMocks
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private CredencialRepository credencialRepository;
+
+    @Mock
+    private Clock clock;
+
+    private Credencial credencialSupervisor;
+    private Credencial credencialCoordenador;
+    private Credencial credencialEstagiario;
+
+    @BeforeEach
+    void setUp() {
+        credencialSupervisor = new Credencial();
+        credencialSupervisor.setEmail("supervisor@empresa.com");
+        credencialSupervisor.setPapel("SUPERVISOR");
+        credencialSupervisor.setEntidadeId(1L);
+        credencialSupervisor.setEmpresaId(1L);
+
+        credencialCoordenador = new Credencial();
+        credencialCoordenador.setEmail("coordenador@faculdade.com");
+        credencialCoordenador.setPapel("FACULDADE");
+        credencialCoordenador.setEntidadeId(1L);
+        credencialCoordenador.setFaculdadeId(2L);
+
+        credencialEstagiario = new Credencial();
+        credencialEstagiario.setEmail("estagiario@teste.com");
+        credencialEstagiario.setPapel("ESTAGIARIO");
+        credencialEstagiario.setEntidadeId(3L);
+        credencialEstagiario.setEmpresaId(1L);
+        credencialEstagiario.setFaculdadeId(2L);
+    }
+
+    @Test
+    void testResolver_Supervisor_UsaCache() {
+        when(credencialRepository.findById("supervisor@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        PrincipalResolvidoDTO primeiro = principalCacheService.resolver("supervisor@empresa.com");
+        PrincipalResolvidoDTO segundo = principalCacheService.resolver("supervisor@empresa.com");
+
+        assertEquals("SUPERVISOR", primeiro.getPapel());
+        assertEquals(1L, primeiro.getId());
+        assertEquals(1L, primeiro.getEmpresaId());
+        assertSame(primeiro, segundo);
+
+        verify(credencialRepository, times(1)).findById("supervisor@empresa.com");
+    }
+
+    @Test
+    void testResolver_Coordenador() {
+        when(credencialRepository.findById("coordenador@faculdade.com")).thenReturn(Optional.of(credencialCoordenador));
+
+        PrincipalResolvidoDTO resultado = principalCacheService.resolver("coordenador@faculdade.com");
+
+        assertEquals("FACULDADE", resultado.getPapel());
+        assertEquals(1L, resultado.getId());
+        assertEquals(2L, resultado.getFaculdadeId());
+    }
+
+    @Test
+    void testResolver_Estagiario() {
+        when(credencialRepository.findById("estagiario@teste.com")).thenReturn(Optional.of(credencialEstagiario));
+
+        PrincipalResolvidoDTO resultado = principalCacheService.resolver("estagiario@teste.com");
+
+        assertEquals("ESTAGIARIO", resultado.getPapel());
+        assertEquals(3L, resultado.getId());
+        assertEquals(1L, resultado.getEmpresaId());
+        assertEquals(2L, resultado.getFaculdadeId());
+    }
+
+    @Test
+    void testInvalidar_ForcaNovaConsulta() {
+        when(credencialRepository.findById("supervisor@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        principalCacheService.resolver("supervisor@empresa.com");
+        principalCacheService.invalidar("supervisor@empresa.com");
+        principalCacheService.resolver("supervisor@empresa.com");
+
+        verify(credencialRepository, times(2)).findById("supervisor@empresa.com");
+    }
+
+    @Test
+    void testResolver_Falha_EmailDesconhecido() {
+        when(credencialRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> {
+            principalCacheService.resolver("desconhecido@teste.com");
+        });
+    }
+
+    @Test
+    void testResolver_ExpiraAposTtl() {
+        AtomicLong agora = new AtomicLong(0L);
+        when(clock.millis()).thenAnswer(invocation -> agora.get());
+        when(credencialRepository.findById("supervisor@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        principalCacheService.resolver("supervisor@empresa.com");
+        agora.set(PrincipalCacheService.TTL.toMillis() - 1);
+        principalCacheService.resolver("supervisor@empresa.com");
+        verify(credencialRepository, times(1)).findById("supervisor@empresa.com");
+
+        agora.set(PrincipalCacheService.TTL.toMillis() + 1);
+        principalCacheService.resolver("supervisor@empresa.com");
+        verify(credencialRepository, times(2)).findById("supervisor@empresa.com");
+    }
+
+    @Test
+    void testResolver_ReutilizaDentroDaRequisicao() {
+        AtomicLong agora = new AtomicLong(0L);
+        when(clock.millis()).thenAnswer(invocation -> agora.get());
+        when(credencialRepository.findById("supervisor@empresa.com")).thenReturn(Optional.of(credencialSupervisor));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            PrincipalResolvidoDTO primeiro = principalCacheService.resolver("supervisor@empresa.com");
+            agora.set(PrincipalCacheService.TTL.toMillis() + 1);
+            PrincipalResolvidoDTO segundo = principalCacheService.resolver("supervisor@empresa.com");
+
+            assertSame(primeiro, segundo);
+            verify(credencialRepository, times(1)).findById("supervisor@empresa.com");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.senai.skillmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RoteamentoLeituraServiceTest {
+
+    private static final Duration JANELA = Duration.ofSeconds(5);
+
+    @Mock
+    private Clock clock;
+
+    private RoteamentoLeituraService roteamentoLeituraService;
+    private AtomicLong agora;
+
+    @BeforeEach
+    void setUp() {
+        agora = new AtomicLong(1_000_000L);
+        lenient().when(clock.millis()).thenAnswer(invocation -> agora.get());
+        roteamentoLeituraService = new RoteamentoLeituraService(JANELA, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testDestino_TransacaoDeEscrita_UsaPrimario() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals(RoteamentoLeituraService.PRIMARIO, roteamentoLeituraService.destino("supervisor@empresa.com"));
+    }
+
+    @Test
+    void testDestino_TransacaoSomenteLeitura_UsaReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(RoteamentoLeituraService.REPLICA, roteamentoLeituraService.destino("supervisor@empresa.com"));
+    }
+
+    @Test
+    void testDestino_SomenteLeituraSemPrincipal_UsaReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(RoteamentoLeituraService.REPLICA, roteamentoLeituraService.destino(null));
+    }
+
+    @Test
+    void testDestino_LeituraAposPropriaEscrita_UsaPrimarioDuranteJanela() {
+        roteamentoLeituraService.registrarEscrita("supervisor@empresa.com");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        agora.addAndGet(JANELA.toMillis() - 1);
+        assertEquals(RoteamentoLeituraService.PRIMARIO, roteamentoLeituraService.destino("supervisor@empresa.com"));
+
+        agora.addAndGet(1);
+        assertEquals(RoteamentoLeituraService.REPLICA, roteamentoLeituraService.destino("supervisor@empresa.com"));
+    }
+
+    @Test
+    void testDestino_EscritaDeOutroPrincipal_NaoAfetaLeitura() {
+        roteamentoLeituraService.registrarEscrita("supervisor@empresa.com");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(RoteamentoLeituraService.REPLICA, roteamentoLeituraService.destino("coordenador@faculdade.com"));
+    }
+
+    @Test
+    void testRegistrarEscrita_NovaEscritaRenovaJanela() {
+        roteamentoLeituraService.registrarEscrita("supervisor@empresa.com");
+        agora.addAndGet(JANELA.toMillis() - 1);
+        roteamentoLeituraService.registrarEscrita("supervisor@empresa.com");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        agora.addAndGet(JANELA.toMillis() - 1);
+
+        assertEquals(RoteamentoLeituraService.PRIMARIO, roteamentoLeituraService.destino("supervisor@empresa.com"));
+    }
+
+    @Test
+    void testRegistrarEscrita_JanelasExpiradasSaoDescartadas() {
+        roteamentoLeituraService.registrarEscrita("supervisor@empresa.com");
+        roteamentoLeituraService.registrarEscrita("coordenador@faculdade.com");
+        agora.addAndGet(JANELA.toMillis());
+
+        roteamentoLeituraService.registrarEscrita("estagiario@teste.com");
+
+        assertEquals(1, roteamentoLeituraService.janelasAtivas());
+    }
+
+    @Test
+    void testConstrutor_Falha_JanelaNegativa() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RoteamentoLeituraService(Duration.ofSeconds(-1), clock);
+        }, "A janela de leitura após escrita não pode ser negativa.");
+    }
+}
\ No newline at end of file
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +48,15 @@ public class SupervisorServiceTest {
     @Mock
     private EmpresaService empresaService;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private CredencialService credencialService;
+
+    @Mock
+    private FiltroUnicidadeService filtroUnicidadeService;
+
     @Mock
     private Authentication authentication;
 
@@ -54,9 +65,14 @@ public class SupervisorServiceTest {
     private Empresa empresaEntidade;
     private EmpresaResponseDTO empresaResponseDTO;
     private EnderecoDTO enderecoDTO;
+    private PrincipalResolvidoDTO principalProprietario;
 
     @BeforeEach
     void setUp() {
+        principalProprietario = new PrincipalResolvidoDTO();
+        principalProprietario.setPapel("SUPERVISOR");
+        principalProprietario.setId(1L);
+
         enderecoDTO = new EnderecoDTO();
         enderecoDTO.setCep("12345678");
         enderecoDTO.setLogradouro("Rua Teste");
@@ -102,7 +118,6 @@ public class SupervisorServiceTest {
 
     @Test
     void testSalvar_FluxoA_NovaEmpresa() {
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
         when(empresaRepository.findByCnpj(anyString())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
         when(empresaService.salvar(any(EmpresaDTO.class))).thenReturn(empresaResponseDTO);
@@ -118,10 +133,32 @@ public class SupervisorServiceTest {
         assertEquals("Nova Empresa Teste", resultado.getEmpresa().getNome());
         assertEquals("A1B-C2D", resultado.getEmpresa().getCodigoEmpresa());
 
-        verify(supervisorRepository, times(1)).findByEmail("teste@empresa.com");
+        verify(credencialService, times(1)).emailEmUso("teste@empresa.com");
+        verify(supervisorRepository, never()).findByEmail(anyString());
         verify(empresaRepository, times(1)).findByCnpj("11111111000111");
         verify(empresaService, times(1)).salvar(any(EmpresaDTO.class));
         verify(supervisorRepository, times(1)).save(any(Supervisor.class));
+        verify(credencialService, times(1)).sincronizarSupervisor(supervisorEntidade);
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "teste@empresa.com");
+    }
+
+    @Test
+    void testSalvar_FiltroIndicaAusencia_PulaConsultas() {
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.EMAIL, "teste@empresa.com")).thenReturn(true);
+        when(filtroUnicidadeService.definitivamenteAusente(FiltroUnicidadeService.Chave.CNPJ_EMPRESA, "11111111000111")).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(empresaService.salvar(any(EmpresaDTO.class))).thenReturn(empresaResponseDTO);
+        when(empresaService.buscarEntidadePorId(anyLong())).thenReturn(empresaEntidade);
+        when(supervisorRepository.save(any(Supervisor.class))).thenReturn(supervisorEntidade);
+
+        SupervisorResponseDTO resultado = supervisorService.salvar(supervisorDTO);
+
+        assertNotNull(resultado);
+        verify(supervisorRepository, never()).findByEmail(anyString());
+        verify(credencialService, never()).emailEmUso(anyString());
+        verify(empresaRepository, never()).findByCnpj(anyString());
+        verify(empresaService, times(1)).salvar(any(EmpresaDTO.class));
+        verify(filtroUnicidadeService, times(1)).registrar(FiltroUnicidadeService.Chave.EMAIL, "teste@empresa.com");
     }
 
     @Test
@@ -129,7 +166,6 @@ public class SupervisorServiceTest {
         supervisorDTO.setEmpresaNome(null);
         supervisorDTO.setEmpresaEndereco(null);
 
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
         when(empresaRepository.findByCnpj(anyString())).thenReturn(Optional.of(empresaEntidade));
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
         when(supervisorRepository.save(any(Supervisor.class))).thenReturn(supervisorEntidade);
@@ -146,22 +182,24 @@ public class SupervisorServiceTest {
     }
 
     @Test
-    void testSalvar_Falha_EmailJaCadastrado() {
-        when(supervisorRepository.findByEmail(anyString())).thenReturn(Optional.of(supervisorEntidade));
+    void testSalvar_Falha_EmailEmUsoPorOutroPapel() {
+        when(credencialService.emailEmUso("teste@empresa.com")).thenReturn(true);
 
         assertThrows(RuntimeException.class, () -> {
             supervisorService.salvar(supervisorDTO);
         }, "Email já cadastrado.");
 
-        verify(empresaRepository, never()).findByCnpj(anyString());
+        verify(supervisorRepository, never()).findByEmail(anyString());
         verify(supervisorRepository, never()).save(any(Supervisor.class));
+        verify(credencialService, never()).sincronizarSupervisor(any(Supervisor.class));
     }
 
     @Test
     void testBuscarPorId_Sucesso_Proprietario() {
-        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
         when(authentication.getName()).thenReturn("teste@empresa.com");
         when(authentication.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_SUPERVISOR")));
+        when(principalCacheService.resolver("teste@empresa.com")).thenReturn(principalProprietario);
+        when(supervisorRepository.findById(1L)).thenReturn(Optional.of(supervisorEntidade));
 
         SupervisorResponseDTO resultado = supervisorService.buscarPorId(1L, authentication);
 
@@ -178,20 +216,38 @@ public class SupervisorServiceTest {
 
         assertNotNull(resultado);
         assertEquals("teste@empresa.com", resultado.getEmail());
+        verify(principalCacheService, never()).resolver(anyString());
     }
 
     @Test
     void testBuscarPorId_Falha_NaoProprietario() {
-        Supervisor outroSupervisor = new Supervisor();
-        outroSupervisor.setId(2L);
-        outroSupervisor.setEmail("outro@email.com");
-
-        when(supervisorRepository.findById(2L)).thenReturn(Optional.of(outroSupervisor));
         when(authentication.getName()).thenReturn("teste@empresa.com");
         when(authentication.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_SUPERVISOR")));
+        when(principalCacheService.resolver("teste@empresa.com")).thenReturn(principalProprietario);
 
         assertThrows(SecurityException.class, () -> {
             supervisorService.buscarPorId(2L, authentication);
         }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(supervisorRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testSalvar_Falha_ViolacaoDeUnicidadeConcorrente() {
+        supervisorDTO.setEmpresaNome(null);
+        supervisorDTO.setEmpresaEndereco(null);
+
+        when(empresaRepository.findByCnpj(anyString())).thenReturn(Optional.of(empresaEntidade));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_senha123");
+        when(supervisorRepository.save(any(Supervisor.class))).thenThrow(new DataIntegrityViolationException("uk_supervisor_email"));
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> {
+            supervisorService.salvar(supervisorDTO);
+        }, "Email já cadastrado.");
+
+        assertEquals("Email já cadastrado.", erro.getMessage());
+        assertFalse(erro instanceof DataIntegrityViolationException);
+        verify(credencialService, never()).sincronizarSupervisor(any(Supervisor.class));
+        verify(filtroUnicidadeService, never()).registrar(eq(FiltroUnicidadeService.Chave.EMAIL), anyString());
     }
 }
\ No newline at end of file
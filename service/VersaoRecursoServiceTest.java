@@ -0,0 +1,192 @@
+package com.senai.skillmanager.service;
+
+import com.senai.skillmanager.dto.EscopoEstagiarioDTO;
+import com.senai.skillmanager.dto.PrincipalResolvidoDTO;
+import com.senai.skillmanager.model.empresa.Empresa;
+import com.senai.skillmanager.model.estagiario.DadosAcademicos;
+import com.senai.skillmanager.model.estagiario.Estagiario;
+import com.senai.skillmanager.model.faculdade.Faculdade;
+import com.senai.skillmanager.repository.EstagiarioRepository;
+import com.senai.skillmanager.repository.VersaoRecursoRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VersaoRecursoServiceTest {
+
+    @InjectMocks
+    private VersaoRecursoService versaoRecursoService;
+
+    @Mock
+    private VersaoRecursoRepository versaoRecursoRepository;
+
+    @Mock
+    private EstagiarioRepository estagiarioRepository;
+
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private Authentication authentication;
+
+    private Estagiario estagiarioEntidade;
+    private PrincipalResolvidoDTO principalSupervisor;
+    private PrincipalResolvidoDTO principalOutraFaculdade;
+
+    @BeforeEach
+    void setUp() {
+        Empresa empresa = new Empresa();
+        empresa.setId(1L);
+
+        Faculdade faculdade = new Faculdade();
+        faculdade.setId(2L);
+
+        DadosAcademicos dadosAcademicos = new DadosAcademicos();
+        dadosAcademicos.setFaculdade(faculdade);
+
+        estagiarioEntidade = new Estagiario();
+        estagiarioEntidade.setId(3L);
+        estagiarioEntidade.setEmpresa(empresa);
+        estagiarioEntidade.setDadosAcademicos(dadosAcademicos);
+
+        principalSupervisor = new PrincipalResolvidoDTO();
+        principalSupervisor.setPapel("SUPERVISOR");
+        principalSupervisor.setId(1L);
+        principalSupervisor.setEmpresaId(1L);
+
+        principalOutraFaculdade = new PrincipalResolvidoDTO();
+        principalOutraFaculdade.setPapel("FACULDADE");
+        principalOutraFaculdade.setId(1L);
+        principalOutraFaculdade.setFaculdadeId(9L);
+    }
+
+    @Test
+    void testRegistrarAlteracaoEstagiario_IncrementaChavesRelacionadas() {
+        versaoRecursoService.registrarAlteracaoEstagiario(estagiarioEntidade);
+
+        InOrder ordem = inOrder(versaoRecursoRepository);
+        ordem.verify(versaoRecursoRepository).incrementar("EMPRESA:1");
+        ordem.verify(versaoRecursoRepository).incrementar("ESTAGIARIO:3");
+        ordem.verify(versaoRecursoRepository).incrementar("FACULDADE:2");
+        verify(versaoRecursoRepository, never()).incrementar("FACULDADE:9");
+    }
+
+    @Test
+    void testRegistrarAlteracaoEstagiario_GravaNaTransacaoDaEscrita() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versaoRecursoService.registrarAlteracaoEstagiario(estagiarioEntidade);
+
+            verify(versaoRecursoRepository, times(3)).incrementar(anyString());
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testEtag_LeVersaoDoEscopoNoBanco() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(versaoRecursoRepository.findVersaoByChave("EMPRESA:1")).thenReturn(Optional.of(4L));
+
+        assertEquals("W/\"SUPERVISOR-1-4\"", versaoRecursoService.etag(authentication));
+        verify(versaoRecursoRepository, never()).findVersaoByChave("FACULDADE:2");
+    }
+
+    @Test
+    void testEtag_SemVersaoGravada_UsaZero() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver("coordenador@faculdade.com")).thenReturn(principalOutraFaculdade);
+        when(versaoRecursoRepository.findVersaoByChave("FACULDADE:9")).thenReturn(Optional.empty());
+
+        assertEquals("W/\"FACULDADE-1-0\"", versaoRecursoService.etag(authentication));
+    }
+
+    @Test
+    void testEtag_MudaSomenteAposIncrementoNoBanco() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(versaoRecursoRepository.findVersaoByChave("EMPRESA:1")).thenReturn(Optional.of(4L), Optional.of(4L), Optional.of(5L));
+
+        String antes = versaoRecursoService.etag(authentication);
+
+        assertEquals(antes, versaoRecursoService.etag(authentication));
+        assertNotEquals(antes, versaoRecursoService.etag(authentication));
+    }
+
+    @Test
+    void testEtag_EstavelEntreInstancias() {
+        VersaoRecursoService outraInstancia = new VersaoRecursoService(versaoRecursoRepository, estagiarioRepository, principalCacheService);
+
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(versaoRecursoRepository.findVersaoByChave("EMPRESA:1")).thenReturn(Optional.of(7L));
+
+        assertEquals(versaoRecursoService.etag(authentication), outraInstancia.etag(authentication));
+    }
+
+    @Test
+    void testEtagEstagiario_Sucesso() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findEscopoById(3L)).thenReturn(Optional.of(new EscopoEstagiarioDTO(1L, 2L)));
+        when(versaoRecursoRepository.findVersaoByChave("ESTAGIARIO:3")).thenReturn(Optional.of(2L));
+
+        assertEquals("W/\"ESTAGIARIO-3-2\"", versaoRecursoService.etagEstagiario(3L, authentication));
+    }
+
+    @Test
+    void testEtagEstagiario_Falha_SupervisorOutraEmpresa() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findEscopoById(3L)).thenReturn(Optional.of(new EscopoEstagiarioDTO(7L, 2L)));
+
+        assertThrows(SecurityException.class, () -> {
+            versaoRecursoService.etagEstagiario(3L, authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(versaoRecursoRepository, never()).findVersaoByChave(anyString());
+    }
+
+    @Test
+    void testEtagEstagiario_Falha_CoordenadorOutraFaculdade() {
+        when(authentication.getName()).thenReturn("coordenador@faculdade.com");
+        when(principalCacheService.resolver("coordenador@faculdade.com")).thenReturn(principalOutraFaculdade);
+        when(estagiarioRepository.findEscopoById(3L)).thenReturn(Optional.of(new EscopoEstagiarioDTO(1L, 2L)));
+
+        assertThrows(SecurityException.class, () -> {
+            versaoRecursoService.etagEstagiario(3L, authentication);
+        }, "Acesso negado. Você não tem permissão para acessar este recurso.");
+
+        verify(versaoRecursoRepository, never()).findVersaoByChave(anyString());
+    }
+
+    @Test
+    void testEtagEstagiario_Falha_NaoEncontrado() {
+        when(authentication.getName()).thenReturn("supervisor@empresa.com");
+        when(principalCacheService.resolver("supervisor@empresa.com")).thenReturn(principalSupervisor);
+        when(estagiarioRepository.findEscopoById(anyLong())).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> {
+            versaoRecursoService.etagEstagiario(99L, authentication);
+        }, "Estagiário não encontrado com ID: 99");
+
+        verify(versaoRecursoRepository, never()).findVersaoByChave(anyString());
+    }
+}
\ No newline at end of file